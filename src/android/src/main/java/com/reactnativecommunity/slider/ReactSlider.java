@@ -8,6 +8,7 @@ package com.reactnativecommunity.slider;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.graphics.Canvas;
 import android.os.Build;
 import android.util.AttributeSet;
 import android.view.MotionEvent;
@@ -15,9 +16,12 @@ import android.view.MotionEvent;
 import androidx.appcompat.widget.AppCompatSeekBar;
 
 import com.facebook.react.uimanager.ReactStylesDiffMap;
+import com.facebook.react.uimanager.events.EventDispatcher;
 import com.reactnativecommunity.slider.ReactInformantViewManager.InformantRegistry.InformantTarget;
 import com.reactnativecommunity.slider.drawables.ReactSliderDrawableHelper;
 
+import java.util.Arrays;
+
 import javax.annotation.Nullable;
 
 /**
@@ -26,7 +30,8 @@ import javax.annotation.Nullable;
  * <p>On iOS, the value is 0..1. Android SeekBar only supports integer values. For consistency, we
  * pretend in JS that the value is 0..1 but set the SeekBar value to 0..100.
  *
- * <p>Note that the slider is _not_ a controlled component (setValue isn't called during dragging).
+ * <p>Note that the slider is _not_ a controlled component (setValue isn't called during dragging),
+ * unless JS reports the events it has seen, see {@link #setMostRecentEventCount(int)}.
  */
 public class ReactSlider extends AppCompatSeekBar implements InformantTarget<ReactStylesDiffMap> {
 
@@ -36,6 +41,19 @@ public class ReactSlider extends AppCompatSeekBar implements InformantTarget<Rea
    */
   private static int DEFAULT_TOTAL_STEPS = 128;
 
+  /**
+   * Total steps used instead of {@link #DEFAULT_TOTAL_STEPS} in high resolution mode.
+   * SeekBar maps touches to progress in float arithmetic which is exact for integers up to 2^24,
+   * a larger int range wouldn't add any resolution.
+   */
+  private static final int HIGH_RESOLUTION_TOTAL_STEPS = 1 << 24;
+
+  /**
+   * Lookup tables of non linear scales are limited to this number of positions,
+   * larger ranges (e.g. high resolution mode) interpolate between the entries of a table this size.
+   */
+  private static final int MAX_LOOKUP_TABLE_SIZE = 1 << 16;
+
   /**
    * We want custom min..max range. Android only supports 0..max range so we implement this
    * ourselves.
@@ -55,14 +73,95 @@ public class ReactSlider extends AppCompatSeekBar implements InformantTarget<Rea
 
   private double mStepCalculated = 0;
 
+  /**
+   * Props are staged and applied once per transaction, see {@link #commitChanges()}.
+   */
+  private boolean mRangeChanged = false;
+  private boolean mValueChanged = false;
+
+  /**
+   * The value displayed when the range of the pending transaction was first changed, see {@link #stageRangeChange()}.
+   */
+  private double mDisplayedValue = 0;
+
   private boolean mIsInverted = false;
 
+  /** If true and step is 0 (unset) we use {@link #HIGH_RESOLUTION_TOTAL_STEPS}. */
+  private boolean mHighResolution = false;
+
+  private final ReactSliderScale mScale = new ReactSliderScale();
+
+  /**
+   * Sorted discrete values, if set SeekBar positions are indices of this array and min, max, step and scale are ignored.
+   */
+  private @Nullable double[] mValues;
+
+  /**
+   * Value of each SeekBar position for non linear scales, built by {@link #updateAll()}
+   * so that {@link #toRealProgress(int)} is an array read.
+   */
+  private @Nullable double[] mLookupTable;
+
+  /**
+   * The lookup table has fewer entries than there are SeekBar positions, see {@link #MAX_LOOKUP_TABLE_SIZE}.
+   */
+  private boolean mLookupTableInterpolated = false;
+
+  /**
+   * Identifies the current drag gesture. Value change events are only coalesced within a gesture
+   * so that the final value of one drag is never merged into the next one.
+   */
+  private short mCoalescingKey = 0;
+
+  /**
+   * Number of value changes made by the user and sent to JS, see {@link #setMostRecentEventCount(int)}.
+   */
+  private int mEventCount = 0;
+
+  /**
+   * The {@link #mEventCount} JS had seen when it rendered {@link #mValue}, -1 if JS doesn't keep track.
+   */
+  private int mMostRecentEventCount = -1;
+
+  /**
+   * {@link MotionEvent#getEventTime()} of the touch being handled, i.e. the one causing progress changes
+   * reported meanwhile.
+   */
+  private long mTouchTime = 0;
+
+  /**
+   * see {@link #isFlingEnding()}
+   */
+  private boolean mFlingEnding = false;
+
+  /**
+   * Resolved once by {@link ReactSliderManager#addEventEmitters} instead of on every progress change.
+   */
+  private @Nullable EventDispatcher mEventDispatcher;
+
   final ReactSliderDrawableHelper drawableHelper;
+  final ReactSliderEventThrottle eventThrottle;
+  final ReactSliderEventGranularity eventGranularity;
+  final ReactSliderRange range;
+  final ReactSliderFling fling;
+  final ReactSliderTouchSamples touchSamples;
+  final ReactSliderTouchPredictor touchPredictor;
+
+  /**
+   * Kept to be able to update the progress without notifying it, see {@link #setProgressSilently(int)}.
+   */
+  private @Nullable OnSeekBarChangeListener mOnSeekBarChangeListener;
 
   public ReactSlider(Context context, @Nullable AttributeSet attrs, int style) {
     super(context, attrs, style);
     disableStateListAnimatorIfNeeded();
     drawableHelper = new ReactSliderDrawableHelper(this);
+    eventThrottle = new ReactSliderEventThrottle(this);
+    eventGranularity = new ReactSliderEventGranularity(this);
+    range = new ReactSliderRange(this);
+    fling = new ReactSliderFling(this);
+    touchSamples = new ReactSliderTouchSamples(this);
+    touchPredictor = new ReactSliderTouchPredictor(this, range);
   }
 
   private void disableStateListAnimatorIfNeeded() {
@@ -84,23 +183,92 @@ public class ReactSlider extends AppCompatSeekBar implements InformantTarget<Rea
   }
 
   /* package */ void setMaxValue(double max) {
+    stageRangeChange();
     mMaxValue = max;
-    updateAll();
   }
 
   /* package */ void setMinValue(double min) {
+    stageRangeChange();
     mMinValue = min;
-    updateAll();
   }
 
   /* package */ void setValue(double value) {
     mValue = value;
-    updateValue();
+    mValueChanged = true;
   }
 
   /* package */ void setStep(double step) {
+    stageRangeChange();
     mStep = step;
-    updateAll();
+  }
+
+  /* package */ void setHighResolution(boolean highResolution) {
+    stageRangeChange();
+    mHighResolution = highResolution;
+  }
+
+  /* package */ void setScale(@ReactSliderScale.Type int type) {
+    stageRangeChange();
+    mScale.setType(type);
+  }
+
+  /* package */ void setScaleExponent(double exponent) {
+    stageRangeChange();
+    mScale.setExponent(exponent);
+  }
+
+  /* package */ void setValues(@Nullable double[] values) {
+    stageRangeChange();
+    if (values != null) {
+      Arrays.sort(values);
+    }
+    mValues = values != null && values.length > 0 ? values : null;
+  }
+
+  /**
+   * Controlled mode, same as TextInput. A value rendered by JS before it received all events sent by the slider
+   * is stale, applying it would move the thumb back to where it was a few frames ago, so it is ignored.
+   */
+  /* package */ void setMostRecentEventCount(int mostRecentEventCount) {
+    mMostRecentEventCount = mostRecentEventCount;
+  }
+
+  private boolean isValueStale() {
+    return mMostRecentEventCount >= 0 && mMostRecentEventCount < mEventCount;
+  }
+
+  /**
+   * Enables range mode if not empty, see {@link ReactSliderRange}.
+   */
+  /* package */ void setThumbValues(@Nullable double[] values) {
+    stageRangeChange();
+    range.setValues(values);
+  }
+
+  /**
+   * Called by the range setters before they change anything, a stale value is then replaced by the value displayed,
+   * mapped through the range it was displayed with, see {@link #updateAll()}.
+   */
+  private void stageRangeChange() {
+    if (!mRangeChanged) {
+      mDisplayedValue = toRealProgress(getProgress());
+      mRangeChanged = true;
+    }
+  }
+
+  /**
+   * Apply the values staged by the setters above so that a transaction updating min, max, step and value
+   * results in a single update of the underlying SeekBar.
+   * Called by {@link ReactSliderManager#onAfterUpdateTransaction(ReactSlider)}.
+   */
+  /* package */ void commitChanges() {
+    if (mRangeChanged) {
+      updateAll();
+    } else if (mValueChanged && !isValueStale()) {
+      updateValue();
+    }
+    mRangeChanged = false;
+    mValueChanged = false;
   }
 
   public boolean isInverted() {
@@ -119,35 +287,273 @@ public class ReactSlider extends AppCompatSeekBar implements InformantTarget<Rea
     super.setScaleX(scaleX * (mIsInverted ? -1 : 1));
   }
 
+  @Override
+  public void setOnSeekBarChangeListener(@Nullable OnSeekBarChangeListener l) {
+    mOnSeekBarChangeListener = l;
+    super.setOnSeekBarChangeListener(l);
+  }
+
+  /**
+   * Update the progress without dispatching a value change.
+   */
+  void setProgressSilently(int progress) {
+    super.setOnSeekBarChangeListener(null);
+    setProgress(progress);
+    super.setOnSeekBarChangeListener(mOnSeekBarChangeListener);
+  }
+
+  /**
+   * Reports a change of progress the SeekBar didn't notice, e.g. of the touched position while the thumb is drawn
+   * ahead of it, see {@link ReactSliderTouchPredictor#onTouchEventHandled()}.
+   */
+  void notifyProgressChanged() {
+    if (mOnSeekBarChangeListener != null) {
+      mOnSeekBarChangeListener.onProgressChanged(this, getProgress(), true);
+    }
+  }
+
+  /**
+   * Completes the gesture once a fling comes to rest, the SeekBar's own notification was ignored, see {@link ReactSliderFling#isFlinging()}.
+   */
+  void onFlingEnd() {
+    if (mOnSeekBarChangeListener != null) {
+      mFlingEnding = true;
+      mOnSeekBarChangeListener.onStopTrackingTouch(this);
+      mFlingEnding = false;
+    }
+  }
+
+  /**
+   * @return true while the gesture is completed by a fling coming to rest rather than by a touch
+   */
+  boolean isFlingEnding() {
+    return mFlingEnding;
+  }
+
+  @Nullable
+  EventDispatcher getEventDispatcher() {
+    return mEventDispatcher;
+  }
+
+  void setEventDispatcher(@Nullable EventDispatcher eventDispatcher) {
+    mEventDispatcher = eventDispatcher;
+  }
+
+  /**
+   * see {@link #mTouchTime}
+   */
+  long getTouchTime() {
+    return mTouchTime;
+  }
+
+  short getCoalescingKey() {
+    return mCoalescingKey;
+  }
+
+  /**
+   * Dispatch a value change to JS, use {@link #eventThrottle} to respect the event rate limit.
+   * @param touchTime see {@link #getTouchTime()} when the change was made, 0 if not caused by a touch
+   */
+  void dispatchValueChange(double value, boolean fromUser, long touchTime) {
+    if (mEventDispatcher != null) {
+      ReactSliderEvent event = ReactSliderEvent.obtain(getId(), value, fromUser, mCoalescingKey);
+      if (fromUser) {
+        // changes made by JS are not counted, JS is already aware of them
+        mEventCount++;
+      }
+      event.setEventCount(mEventCount);
+      event.setTouchTime(touchTime);
+      if (range.isEnabled()) {
+        event.setThumbValues(range.getValues(), range.getThumbCount(), range.getActiveThumb());
+      }
+      touchSamples.drainTo(event);
+      mEventDispatcher.dispatchEvent(event);
+    }
+  }
+
+  /**
+   * Called when a gesture starts or ends, see {@link #mCoalescingKey}.
+   */
+  void advanceCoalescingKey() {
+    mCoalescingKey++;
+  }
+
   /**
    * Convert SeekBar's native progress value (e.g. 0..{@link ReactSlider#getMax()}) to a value passed to JS (e.g. -1.0..2.5).
    */
   public double toRealProgress(int seekBarProgress) {
+    if (mLookupTable != null && mLookupTableInterpolated) {
+      if (seekBarProgress >= 0 && seekBarProgress < getMax()) {
+        return interpolateLookupTable(seekBarProgress);
+      }
+    } else if (mLookupTable != null && seekBarProgress >= 0 && seekBarProgress < mLookupTable.length) {
+      return mLookupTable[seekBarProgress];
+    }
     double progress = seekBarProgress;
     if (progress == getMax()) {
       return mMaxValue;
     }
+    if (!mScale.isLinear(mMinValue, mMaxValue)) {
+      return toScaledValue(seekBarProgress, getMax());
+    }
     return progress * getStepValue() + mMinValue;
   }
 
   /** Update underlying native SeekBar's values. */
   private void updateAll() {
-    if (mStep == 0) {
-      mStepCalculated = (mMaxValue - mMinValue) / (double) DEFAULT_TOTAL_STEPS;
+    // keep what the user sees if the value from JS is stale
+    double value = isValueStale() ? mDisplayedValue : mValue;
+    if (mStep <= 0) {
+      mStepCalculated = (mMaxValue - mMinValue) / (double) getDefaultTotalSteps();
     }
-    setMax(getTotalSteps());
-    updateValue();
+    int totalSteps = getTotalSteps();
+    updateLookupTable(totalSteps);
+    setMax(totalSteps);
+    range.update();
+    updateValue(value);
   }
 
   /** Update value only (optimization in case only value is set). */
   private void updateValue() {
-    setProgress((int) Math.round((mValue - mMinValue) / (mMaxValue - mMinValue) * getTotalSteps()));
+    updateValue(mValue);
+  }
+
+  private void updateValue(double value) {
+    if (range.isEnabled()) {
+      // the value is ignored in range mode
+      setProgress(range.getActiveProgress());
+      invalidate();
+    } else {
+      setProgress(toSeekBarProgress(value));
+    }
+  }
+
+  /**
+   * Convert a value passed from JS to SeekBar's native progress value, see {@link #toRealProgress(int)}.
+   */
+  int toSeekBarProgress(double value) {
+    if (mValues != null) {
+      return indexOfNearest(mValues, value);
+    }
+    double fraction = mScale.toFraction(value, mMinValue, mMaxValue);
+    return (int) Math.round(fraction * getTotalSteps());
+  }
+
+  /**
+   * The progress AbsSeekBar maps a touch at the given position to.
+   */
+  int progressAt(float x) {
+    int available = getWidth() - getPaddingLeft() - getPaddingRight();
+    float scale = available > 0 ? (x - getPaddingLeft()) / available : 0;
+    scale = Math.max(0, Math.min(1, scale));
+    return Math.round(scale * getMax());
+  }
+
+  private void updateLookupTable(int totalSteps) {
+    mLookupTableInterpolated = false;
+    if (mValues != null) {
+      mLookupTable = mValues;
+      return;
+    }
+    if (mScale.isLinear(mMinValue, mMaxValue)) {
+      mLookupTable = null;
+      return;
+    }
+    int size = Math.min(totalSteps, MAX_LOOKUP_TABLE_SIZE);
+    if (mLookupTable == null || mLookupTable.length != size + 1) {
+      mLookupTable = new double[size + 1];
+    }
+    if (size < totalSteps) {
+      // unsnapped values, the step is applied once interpolated
+      mLookupTableInterpolated = true;
+      for (int i = 0; i <= size; i++) {
+        mLookupTable[i] = mScale.toValue(i / (double) size, mMinValue, mMaxValue);
+      }
+    } else {
+      for (int i = 0; i <= totalSteps; i++) {
+        mLookupTable[i] = toScaledValue(i, totalSteps);
+      }
+    }
+  }
+
+  /**
+   * Value of a SeekBar position between two entries of an interpolated lookup table.
+   */
+  private double interpolateLookupTable(int seekBarProgress) {
+    double position = seekBarProgress * (double) (mLookupTable.length - 1) / getMax();
+    int index = (int) position;
+    double value = mLookupTable[index];
+    if (index + 1 < mLookupTable.length) {
+      value += (mLookupTable[index + 1] - value) * (position - index);
+    }
+    return snapToStep(value);
+  }
+
+  /**
+   * Value of a SeekBar position according to {@link #mScale}, snapped to the step if set.
+   */
+  private double toScaledValue(int seekBarProgress, int totalSteps) {
+    if (seekBarProgress >= totalSteps) {
+      return mMaxValue;
+    }
+    return snapToStep(mScale.toValue(seekBarProgress / (double) totalSteps, mMinValue, mMaxValue));
+  }
+
+  private double snapToStep(double value) {
+    if (mStep > 0) {
+      value = mMinValue + Math.round((value - mMinValue) / mStep) * mStep;
+      value = Math.max(Math.min(value, Math.max(mMinValue, mMaxValue)), Math.min(mMinValue, mMaxValue));
+    }
+    return value;
   }
 
   private int getTotalSteps() {
+    if (mValues != null) {
+      return mValues.length - 1;
+    }
+    if (mStep <= 0) {
+      // avoid rounding errors of dividing by the calculated step
+      return getDefaultTotalSteps();
+    }
     return (int) Math.ceil((mMaxValue - mMinValue) / getStepValue());
   }
 
+  /**
+   * Binary search for the index of the value closest to the given one in a sorted array.
+   */
+  private static int indexOfNearest(double[] values, double value) {
+    int index = Arrays.binarySearch(values, value);
+    if (index >= 0) {
+      return index;
+    }
+    int insertionPoint = -index - 1;
+    if (insertionPoint == 0) {
+      return 0;
+    } else if (insertionPoint == values.length) {
+      return values.length - 1;
+    }
+    double below = values[insertionPoint - 1];
+    double above = values[insertionPoint];
+    return value - below <= above - value ? insertionPoint - 1 : insertionPoint;
+  }
+
+  /**
+   * Index of the step the value falls on, with {@link #mStep} unset one of the {@link #DEFAULT_TOTAL_STEPS}
+   * even in high resolution mode or with a non linear scale, where SeekBar positions aren't steps.
+   */
+  int toStepIndex(double value) {
+    if (mValues != null) {
+      return indexOfNearest(mValues, value);
+    }
+    double step = mStep > 0 ? mStep : (mMaxValue - mMinValue) / DEFAULT_TOTAL_STEPS;
+    if (step == 0) return 0;
+    return (int) Math.round((value - mMinValue) / step);
+  }
+
+  private int getDefaultTotalSteps() {
+    return mHighResolution ? HIGH_RESOLUTION_TOTAL_STEPS : DEFAULT_TOTAL_STEPS;
+  }
+
   private double getStepValue() {
     return mStep > 0 ? mStep : mStepCalculated;
   }
@@ -160,8 +566,39 @@ public class ReactSlider extends AppCompatSeekBar implements InformantTarget<Rea
   @SuppressLint("ClickableViewAccessibility")
   @Override
   public boolean onTouchEvent(MotionEvent event) {
-    boolean retVal = super.onTouchEvent(event);
+    boolean retVal;
+    mTouchTime = event.getEventTime();
+    ReactSliderLatency.record(ReactSliderLatency.Stage.TOUCH_RECEIVED, mTouchTime);
+    fling.onTouchEvent(event);
+    touchSamples.onTouchEvent(event);
+    if (range.isEnabled()) {
+      float offset = range.onTouchEvent(event);
+      retVal = super.onTouchEvent(event);
+      event.offsetLocation(-offset, 0);
+      range.onTouchEventHandled();
+    } else {
+      float offset = touchPredictor.onTouchEvent(event);
+      retVal = super.onTouchEvent(event);
+      event.offsetLocation(-offset, 0);
+      touchPredictor.onTouchEventHandled();
+    }
+    fling.onTouchEventHandled(event);
     drawableHelper.onTouchEvent(event);
     return retVal;
   }
+
+  @Override
+  protected void onAttachedToWindow() {
+    super.onAttachedToWindow();
+    drawableHelper.onAttachedToWindow();
+  }
+
+  @Override
+  protected synchronized void onDraw(Canvas canvas) {
+    drawableHelper.drawTickMarks(canvas);
+    super.onDraw(canvas);
+    if (range.isEnabled()) {
+      range.drawInactiveThumbs(canvas);
+    }
+  }
 }
@@ -7,25 +7,131 @@
 
 package com.reactnativecommunity.slider;
 
+import androidx.core.util.Pools;
+
 import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
 
 /**
  * Event emitted by a ReactSliderManager when user changes slider position.
+ *
+ * <p>This is a direct event (same as on iOS) so that it can drive a native Animated.event,
+ * which NativeAnimatedModule resolves by registration name, see {@link ReactSliderManager#getExportedCustomDirectEventTypeConstants()}.
  */
 public class ReactSliderEvent extends Event<ReactSliderEvent> {
 
-  public static final String EVENT_NAME = "topChange";
+  public static final String EVENT_NAME = "topRNCSliderValueChange";
+  public static final String REGISTRATION_NAME = "onRNCSliderValueChange";
+
+  /**
+   * Events are recycled once dispatched (or coalesced), same as touch events,
+   * so that dragging doesn't allocate an event per progress tick.
+   */
+  private static final int EVENTS_POOL_SIZE = 3;
+  private static final Pools.SynchronizedPool<ReactSliderEvent> EVENTS_POOL =
+      new Pools.SynchronizedPool<>(EVENTS_POOL_SIZE);
+
+  private double mValue;
+  private boolean mFromUser;
+  private short mCoalescingKey;
+  private int mEventCount;
+  private long mTouchTime;
 
-  private final double mValue;
-  private final boolean mFromUser;
+  /**
+   * Range mode only, see {@link ReactSliderRange}. The array is reused along with the event.
+   */
+  private double[] mThumbValues = new double[0];
+  private int mThumbCount = 0;
+  private int mActiveThumb = 0;
 
-  public ReactSliderEvent(int viewId, double value, boolean fromUser) {
-    super(viewId);
+  /**
+   * Touch samples as (time, value) pairs, see {@link ReactSliderTouchSamples}. The array is reused along with the event.
+   */
+  private double[] mSamples = new double[0];
+  private int mSamplesLength = 0;
+
+  public static ReactSliderEvent obtain(int viewId, double value, boolean fromUser) {
+    return obtain(viewId, value, fromUser, (short) 0);
+  }
+
+  /**
+   * @param coalescingKey events sharing a key are coalesced by the {@link com.facebook.react.uimanager.events.EventDispatcher},
+   *                      only the most recent value is sent to JS
+   */
+  public static ReactSliderEvent obtain(int viewId, double value, boolean fromUser, short coalescingKey) {
+    ReactSliderEvent event = EVENTS_POOL.acquire();
+    if (event == null) {
+      event = new ReactSliderEvent();
+    }
+    event.init(viewId, value, fromUser, coalescingKey);
+    return event;
+  }
+
+  private ReactSliderEvent() {}
+
+  private void init(int viewId, double value, boolean fromUser, short coalescingKey) {
+    super.init(viewId);
     mValue = value;
     mFromUser = fromUser;
+    mCoalescingKey = coalescingKey;
+    mEventCount = 0;
+    mTouchTime = 0;
+    mThumbCount = 0;
+    mActiveThumb = 0;
+    mSamplesLength = 0;
+  }
+
+  /**
+   * see {@link ReactSlider#setMostRecentEventCount(int)}
+   */
+  void setEventCount(int eventCount) {
+    mEventCount = eventCount;
+  }
+
+  /**
+   * @param touchTime the {@link android.view.MotionEvent#getEventTime()} of the touch that caused the change,
+   *                  0 if not caused by a touch
+   */
+  void setTouchTime(long touchTime) {
+    mTouchTime = touchTime;
+  }
+
+  void setThumbValues(double[] values, int count, int activeThumb) {
+    if (mThumbValues.length < count) {
+      mThumbValues = new double[count];
+    }
+    System.arraycopy(values, 0, mThumbValues, 0, count);
+    mThumbCount = count;
+    mActiveThumb = activeThumb;
+  }
+
+  void appendSamples(double[] samples, int length) {
+    ensureSamplesCapacity(mSamplesLength + length);
+    System.arraycopy(samples, 0, mSamples, mSamplesLength, length);
+    mSamplesLength += length;
+  }
+
+  private void prependSamples(double[] samples, int length) {
+    ensureSamplesCapacity(mSamplesLength + length);
+    System.arraycopy(mSamples, 0, mSamples, length, mSamplesLength);
+    System.arraycopy(samples, 0, mSamples, 0, length);
+    mSamplesLength += length;
+  }
+
+  private void ensureSamplesCapacity(int capacity) {
+    if (mSamples.length < capacity) {
+      double[] samples = new double[Math.max(capacity, mSamples.length * 2)];
+      System.arraycopy(mSamples, 0, samples, 0, mSamplesLength);
+      mSamples = samples;
+    }
+  }
+
+  @Override
+  public void onDispose() {
+    EVENTS_POOL.release(this);
   }
 
   public double getValue() {
@@ -44,18 +150,56 @@ public class ReactSliderEvent extends Event<ReactSliderEvent> {
 
   @Override
   public short getCoalescingKey() {
-    return 0;
+    return mCoalescingKey;
   }
+
+  /**
+   * The newest event is kept as by default, touch samples of both events are kept, in order.
+   */
+  @Override
+  public ReactSliderEvent coalesce(ReactSliderEvent otherEvent) {
+    ReactSliderEvent newer = super.coalesce(otherEvent);
+    ReactSliderEvent older = newer == this ? otherEvent : this;
+    if (older.mSamplesLength > 0) {
+      newer.prependSamples(older.mSamples, older.mSamplesLength);
+    }
+    return newer;
+  }
+
   @Override
   public void dispatch(RCTEventEmitter rctEventEmitter) {
+    ReactSliderLatency.record(ReactSliderLatency.Stage.EVENT_DISPATCHED, mTouchTime);
     rctEventEmitter.receiveEvent(getViewTag(), getEventName(), serializeEventData());
   }
 
+  /**
+   * The map is handed over to the bridge and consumed by it, so it can't be recycled along with the event.
+   * Coalescing makes sure this runs at most once per frame during a drag.
+   */
   private WritableMap serializeEventData() {
     WritableMap eventData = Arguments.createMap();
     eventData.putInt("target", getViewTag());
     eventData.putDouble("value", getValue());
     eventData.putBoolean("fromUser", isFromUser());
+    eventData.putInt("eventCount", mEventCount);
+    if (mTouchTime > 0) {
+      eventData.putDouble("touchTimestamp", mTouchTime);
+    }
+    if (mThumbCount > 0) {
+      WritableArray values = Arguments.createArray();
+      for (int i = 0; i < mThumbCount; i++) {
+        values.pushDouble(mThumbValues[i]);
+      }
+      eventData.putArray("values", values);
+      eventData.putInt("activeThumb", mActiveThumb);
+    }
+    if (mSamplesLength > 0) {
+      WritableArray samples = Arguments.createArray();
+      for (int i = 0; i < mSamplesLength; i++) {
+        samples.pushDouble(mSamples[i]);
+      }
+      eventData.putArray("samples", samples);
+    }
     return eventData;
   }
 }
@@ -0,0 +1,111 @@
+package com.reactnativecommunity.slider;
+
+import androidx.annotation.IntDef;
+import androidx.annotation.Nullable;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Suppresses value change events JS isn't interested in, see {@link ReactSliderManager#setEventGranularity(ReactSlider, String)}.
+ * Changes are measured against the last accepted value, the first change of a gesture against the value it started from.
+ */
+class ReactSliderEventGranularity {
+
+  @IntDef({
+      Mode.VALUE,
+      Mode.STEP,
+      Mode.DELTA,
+      Mode.PIXEL
+  })
+  @Retention(RetentionPolicy.SOURCE)
+  @interface Mode {
+    /** every change */
+    int VALUE = 0;
+    /** only when the step index changes */
+    int STEP = 1;
+    /** only when the value moved by more than the threshold */
+    int DELTA = 2;
+    /** only when the thumb travelled more than the threshold in pixels */
+    int PIXEL = 3;
+  }
+
+  static @Mode int parseMode(@Nullable String mode) {
+    if (mode == null) return Mode.VALUE;
+    switch (mode) {
+      case "step":
+        return Mode.STEP;
+      case "delta":
+        return Mode.DELTA;
+      case "pixel":
+        return Mode.PIXEL;
+      default:
+        return Mode.VALUE;
+    }
+  }
+
+  private final ReactSlider mSlider;
+  private @Mode int mMode = Mode.VALUE;
+  private double mThreshold = 0;
+  private int mLastProgress;
+  private double mLastValue;
+  private int mLastStep;
+
+  ReactSliderEventGranularity(ReactSlider slider) {
+    mSlider = slider;
+  }
+
+  void setMode(@Mode int mode) {
+    mMode = mode;
+    // the step of the last accepted value is only tracked in STEP mode
+    reset(mLastProgress, mLastValue);
+  }
+
+  void setThreshold(double threshold) {
+    mThreshold = Math.abs(threshold);
+  }
+
+  /**
+   * @return true if the change should be sent to JS
+   */
+  boolean accept(int progress, double value, boolean fromUser) {
+    if (!fromUser || mMode == Mode.VALUE || isSignificant(progress, value)) {
+      reset(progress, value);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * @return true if changes were suppressed since the last accepted value
+   */
+  boolean hasSuppressedChanges(int progress) {
+    return mMode != Mode.VALUE && progress != mLastProgress;
+  }
+
+  void reset(int progress, double value) {
+    mLastProgress = progress;
+    mLastValue = value;
+    if (mMode == Mode.STEP) {
+      mLastStep = mSlider.toStepIndex(value);
+    }
+  }
+
+  private boolean isSignificant(int progress, double value) {
+    switch (mMode) {
+      case Mode.STEP:
+        // positions aren't steps in high resolution mode or with a non linear scale
+        return mSlider.toStepIndex(value) != mLastStep;
+      case Mode.DELTA:
+        return Math.abs(value - mLastValue) > mThreshold;
+      case Mode.PIXEL:
+        int max = mSlider.getMax();
+        if (max <= 0) return true;
+        int trackWidth = mSlider.getWidth() - mSlider.getPaddingLeft() - mSlider.getPaddingRight();
+        return Math.abs(progress - mLastProgress) * (double) trackWidth / max > mThreshold;
+      case Mode.VALUE:
+      default:
+        return true;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.reactnativecommunity.slider;
+
+import android.view.Choreographer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the rate of value change events sent to JS, see {@link ReactSliderManager#setEventThrottleMs(ReactSlider, int)}.
+ * While throttling, events are dispatched from a frame callback so they are aligned to frames.
+ * The most recent value is never dropped, it is delivered once the interval has passed or when {@link #flush()} is called.
+ */
+class ReactSliderEventThrottle implements Choreographer.FrameCallback {
+
+  private final ReactSlider mSlider;
+  private long mIntervalNanos = 0;
+  private long mLastDispatchNanos = 0;
+  private boolean mFrameCallbackPosted = false;
+
+  private boolean mHasPendingValue = false;
+  private double mPendingValue;
+  private boolean mPendingFromUser;
+  private long mPendingTouchTime;
+
+  ReactSliderEventThrottle(ReactSlider slider) {
+    mSlider = slider;
+  }
+
+  void setInterval(int intervalMs) {
+    mIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(intervalMs, 0));
+    if (mIntervalNanos == 0) {
+      flush();
+    }
+  }
+
+  /**
+   * @param touchTime the time of the touch causing the change, see {@link ReactSlider#dispatchValueChange}
+   */
+  void onValueChange(double value, boolean fromUser, long touchTime) {
+    if (mIntervalNanos == 0) {
+      mSlider.dispatchValueChange(value, fromUser, touchTime);
+      return;
+    }
+    mPendingValue = value;
+    mPendingFromUser = fromUser;
+    mPendingTouchTime = touchTime;
+    mHasPendingValue = true;
+    postFrameCallback();
+  }
+
+  @Override
+  public void doFrame(long frameTimeNanos) {
+    mFrameCallbackPosted = false;
+    if (!mHasPendingValue) return;
+    if (frameTimeNanos - mLastDispatchNanos >= mIntervalNanos) {
+      mLastDispatchNanos = frameTimeNanos;
+      dispatchPendingValue();
+    } else {
+      postFrameCallback();
+    }
+  }
+
+  /**
+   * Dispatch the trailing value immediately, e.g. before {@link ReactSlidingCompleteEvent}.
+   */
+  void flush() {
+    cancel();
+    if (mHasPendingValue) {
+      mLastDispatchNanos = System.nanoTime();
+      dispatchPendingValue();
+    }
+  }
+
+  /**
+   * Stop waiting for the next frame, the pending value is kept.
+   */
+  void cancel() {
+    if (mFrameCallbackPosted) {
+      Choreographer.getInstance().removeFrameCallback(this);
+      mFrameCallbackPosted = false;
+    }
+  }
+
+  private void postFrameCallback() {
+    if (!mFrameCallbackPosted) {
+      Choreographer.getInstance().postFrameCallback(this);
+      mFrameCallbackPosted = true;
+    }
+  }
+
+  private void dispatchPendingValue() {
+    mHasPendingValue = false;
+    mSlider.dispatchValueChange(mPendingValue, mPendingFromUser, mPendingTouchTime);
+  }
+}
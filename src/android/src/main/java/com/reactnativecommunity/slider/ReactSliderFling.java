@@ -0,0 +1,145 @@
+package com.reactnativecommunity.slider;
+
+import android.view.MotionEvent;
+import android.view.VelocityTracker;
+import android.view.ViewConfiguration;
+import android.widget.OverScroller;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Keeps the thumb moving after a fast drag is released, see {@link ReactSliderManager#setFling(ReactSlider, boolean)}.
+ * The decay runs on the UI thread in animation frames, progress changes are reported as user changes
+ * and the gesture is completed once the thumb comes to rest.
+ */
+class ReactSliderFling implements Runnable {
+
+  private final ReactSlider mSlider;
+  private final OverScroller mScroller;
+  private final int mMinVelocity;
+  private final int mMaxVelocity;
+  private @Nullable VelocityTracker mVelocityTracker;
+  private boolean mEnabled = false;
+  private boolean mFlinging = false;
+  private float mVelocity;
+
+  ReactSliderFling(ReactSlider slider) {
+    mSlider = slider;
+    mScroller = new OverScroller(slider.getContext());
+    ViewConfiguration configuration = ViewConfiguration.get(slider.getContext());
+    mMinVelocity = configuration.getScaledMinimumFlingVelocity();
+    mMaxVelocity = configuration.getScaledMaximumFlingVelocity();
+  }
+
+  void setEnabled(boolean enabled) {
+    mEnabled = enabled;
+    if (!enabled) {
+      stop();
+      recycleVelocityTracker();
+    }
+  }
+
+  /**
+   * True from the release of a fling until the thumb comes to rest.
+   * The SeekBar reports the end of the drag in between, it must be ignored.
+   */
+  boolean isFlinging() {
+    return mFlinging;
+  }
+
+  /**
+   * Called before the SeekBar handles the event.
+   */
+  void onTouchEvent(MotionEvent event) {
+    if (!mEnabled) return;
+    int action = event.getActionMasked();
+    if (action == MotionEvent.ACTION_DOWN) {
+      stop();
+    }
+    if (mVelocityTracker == null) {
+      mVelocityTracker = VelocityTracker.obtain();
+    }
+    mVelocityTracker.addMovement(event);
+    if (action == MotionEvent.ACTION_UP) {
+      mVelocityTracker.computeCurrentVelocity(1000, mMaxVelocity);
+      mVelocity = mVelocityTracker.getXVelocity();
+      mFlinging = mSlider.isEnabled() && Math.abs(mVelocity) >= mMinVelocity && mSlider.getMax() > 0;
+      recycleVelocityTracker();
+    } else if (action == MotionEvent.ACTION_CANCEL) {
+      recycleVelocityTracker();
+    }
+  }
+
+  /**
+   * Called once the SeekBar handled the event, the release position is known by then.
+   */
+  void onTouchEventHandled(MotionEvent event) {
+    if (!mFlinging || event.getActionMasked() != MotionEvent.ACTION_UP) return;
+    int available = getAvailableWidth();
+    int max = mSlider.getMax();
+    int start = toPosition(mSlider.getProgress(), available, max);
+    int min = 0;
+    int end = available;
+    if (mSlider.range.isEnabled()) {
+      min = toPosition(mSlider.range.getMinProgress(), available, max);
+      end = toPosition(mSlider.range.getMaxProgress(), available, max);
+    }
+    mScroller.fling(start, 0, Math.round(mVelocity), 0, min, end, 0, 0);
+    mSlider.postOnAnimation(this);
+  }
+
+  @Override
+  public void run() {
+    if (!mFlinging) return;
+    boolean running = mScroller.computeScrollOffset();
+    int available = getAvailableWidth();
+    if (available > 0) {
+      int progress = Math.round(mScroller.getCurrX() / (float) available * mSlider.getMax());
+      mSlider.setProgress(progress);
+      if (mSlider.range.isEnabled()) {
+        mSlider.range.onTouchEventHandled();
+      }
+    }
+    if (running && !mScroller.isFinished()) {
+      mSlider.postOnAnimation(this);
+    } else {
+      stop();
+    }
+  }
+
+  /**
+   * Stops a fling in progress and completes the gesture.
+   */
+  void stop() {
+    if (!mFlinging) return;
+    mFlinging = false;
+    mScroller.forceFinished(true);
+    mSlider.removeCallbacks(this);
+    mSlider.onFlingEnd();
+  }
+
+  /**
+   * Stops a fling in progress without notifying JS, the slider is being dropped.
+   */
+  void cancel() {
+    mFlinging = false;
+    mScroller.forceFinished(true);
+    mSlider.removeCallbacks(this);
+    recycleVelocityTracker();
+  }
+
+  private void recycleVelocityTracker() {
+    if (mVelocityTracker != null) {
+      mVelocityTracker.recycle();
+      mVelocityTracker = null;
+    }
+  }
+
+  private int getAvailableWidth() {
+    return mSlider.getWidth() - mSlider.getPaddingLeft() - mSlider.getPaddingRight();
+  }
+
+  private static int toPosition(int progress, int available, int max) {
+    return Math.round(progress / (float) max * available);
+  }
+}
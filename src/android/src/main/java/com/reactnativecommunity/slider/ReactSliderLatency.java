@@ -0,0 +1,100 @@
+package com.reactnativecommunity.slider;
+
+import android.os.SystemClock;
+
+import androidx.annotation.IntDef;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+
+/**
+ * Process wide record of the time elapsed between a touch and the stages of handling it, in milliseconds
+ * since the {@link android.view.MotionEvent#getEventTime()} of the touch. Disabled by default,
+ * see {@link ReactSliderLatencyModule}.
+ *
+ * <p>Only the most recent {@link #CAPACITY} samples of each stage are kept.
+ */
+class ReactSliderLatency {
+
+  @IntDef({
+      Stage.TOUCH_RECEIVED,
+      Stage.PROGRESS_APPLIED,
+      Stage.EVENT_DISPATCHED
+  })
+  @Retention(RetentionPolicy.SOURCE)
+  @interface Stage {
+    /** the slider received the MotionEvent, UI thread */
+    int TOUCH_RECEIVED = 0;
+    /** the SeekBar applied the progress of the MotionEvent, UI thread */
+    int PROGRESS_APPLIED = 1;
+    /** the value change event was handed to JS, JS thread */
+    int EVENT_DISPATCHED = 2;
+  }
+
+  private static final String[] STAGE_NAMES = {"touchReceived", "progressApplied", "eventDispatched"};
+  private static final int CAPACITY = 1024;
+  private static final double[] PERCENTILES = {50, 90, 99};
+
+  private static volatile boolean sEnabled = false;
+  private static final long[][] sSamples = new long[STAGE_NAMES.length][CAPACITY];
+  private static final int[] sCounts = new int[STAGE_NAMES.length];
+
+  static boolean isEnabled() {
+    return sEnabled;
+  }
+
+  static void setEnabled(boolean enabled) {
+    sEnabled = enabled;
+  }
+
+  /**
+   * @param touchTime the {@link android.view.MotionEvent#getEventTime()} of the touch being handled, 0 if unknown
+   */
+  static void record(@Stage int stage, long touchTime) {
+    if (!sEnabled || touchTime <= 0) return;
+    long latency = SystemClock.uptimeMillis() - touchTime;
+    synchronized (sSamples) {
+      sSamples[stage][sCounts[stage] % CAPACITY] = latency;
+      sCounts[stage]++;
+    }
+  }
+
+  static void reset() {
+    synchronized (sSamples) {
+      Arrays.fill(sCounts, 0);
+    }
+  }
+
+  /**
+   * @return for each stage the number of samples recorded and the percentiles (p50, p90, p99) of the kept ones
+   */
+  static WritableMap getPercentiles() {
+    WritableMap result = Arguments.createMap();
+    for (int stage = 0; stage < STAGE_NAMES.length; stage++) {
+      long[] samples;
+      int count;
+      synchronized (sSamples) {
+        count = sCounts[stage];
+        samples = Arrays.copyOf(sSamples[stage], Math.min(count, CAPACITY));
+      }
+      Arrays.sort(samples);
+      WritableMap percentiles = Arguments.createMap();
+      percentiles.putInt("count", count);
+      for (double percentile : PERCENTILES) {
+        String key = "p" + (int) percentile;
+        if (samples.length == 0) {
+          percentiles.putNull(key);
+        } else {
+          int index = (int) Math.ceil(percentile / 100 * samples.length) - 1;
+          percentiles.putDouble(key, samples[Math.max(index, 0)]);
+        }
+      }
+      result.putMap(STAGE_NAMES[stage], percentiles);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,39 @@
+package com.reactnativecommunity.slider;
+
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+
+/**
+ * Exposes {@link ReactSliderLatency} to JS to tell whether drag lag comes from the slider,
+ * the bridge or the JS handlers.
+ */
+public class ReactSliderLatencyModule extends ReactContextBaseJavaModule {
+
+  public static final String NAME = "RNCSliderLatency";
+
+  ReactSliderLatencyModule(ReactApplicationContext reactContext) {
+    super(reactContext);
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @ReactMethod
+  public void setEnabled(boolean enabled) {
+    ReactSliderLatency.setEnabled(enabled);
+  }
+
+  @ReactMethod
+  public void reset() {
+    ReactSliderLatency.reset();
+  }
+
+  @ReactMethod
+  public void getPercentiles(Promise promise) {
+    promise.resolve(ReactSliderLatency.getPercentiles());
+  }
+}
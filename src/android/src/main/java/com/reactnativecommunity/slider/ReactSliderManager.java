@@ -11,7 +11,7 @@ import android.os.Build;
 import android.view.View;
 import android.widget.SeekBar;
 
-import com.facebook.react.bridge.ReactContext;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.common.MapBuilder;
 import com.facebook.react.module.annotations.ReactModule;
@@ -21,13 +21,14 @@ import com.facebook.react.uimanager.ThemedReactContext;
 import com.facebook.react.uimanager.UIManagerModule;
 import com.facebook.react.uimanager.ViewProps;
 import com.facebook.react.uimanager.annotations.ReactProp;
+import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.yoga.YogaMeasureFunction;
 import com.facebook.yoga.YogaMeasureMode;
-import com.facebook.yoga.YogaMeasureOutput;
 import com.facebook.yoga.YogaNode;
 import com.reactnativecommunity.slider.ReactInformantViewManager.InformantRegistry;
 import com.reactnativecommunity.slider.drawables.ReactSliderDrawableHelper.SliderDrawable;
 import com.reactnativecommunity.slider.drawables.DrawableHandler;
+import com.reactnativecommunity.slider.drawables.RasterCache;
 
 import java.util.Map;
 
@@ -42,7 +43,7 @@ import javax.annotation.Nullable;
 @ReactModule(name = ReactSliderManager.REACT_CLASS)
 public class ReactSliderManager extends SimpleViewManager<ReactSlider> {
 
-  private static final int STYLE = android.R.attr.seekBarStyle;
+  static final int STYLE = android.R.attr.seekBarStyle;
   private static final String DEFAULT_COLOR = "#009688";
 
   public static final String REACT_CLASS = "RNCSlider";
@@ -50,10 +51,6 @@ public class ReactSliderManager extends SimpleViewManager<ReactSlider> {
   static class ReactSliderShadowNode extends LayoutShadowNode implements
       YogaMeasureFunction {
 
-    private int mWidth;
-    private int mHeight;
-    private boolean mMeasured;
-
     private ReactSliderShadowNode() {
       initMeasureFunction();
     }
@@ -69,16 +66,7 @@ public class ReactSliderManager extends SimpleViewManager<ReactSlider> {
         YogaMeasureMode widthMode,
         float height,
         YogaMeasureMode heightMode) {
-      if (!mMeasured) {
-        SeekBar reactSlider = new ReactSlider(getThemedContext(), null, STYLE);
-        final int spec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
-        reactSlider.measure(spec, spec);
-        mWidth = reactSlider.getMeasuredWidth();
-        mHeight = reactSlider.getMeasuredHeight();
-        mMeasured = true;
-      }
-
-      return YogaMeasureOutput.make(mWidth, mHeight);
+      return ReactSliderMeasurementCache.get(getThemedContext());
     }
   }
 
@@ -86,38 +74,84 @@ public class ReactSliderManager extends SimpleViewManager<ReactSlider> {
       new SeekBar.OnSeekBarChangeListener() {
         @Override
         public void onProgressChanged(SeekBar seekbar, int progress, boolean fromUser) {
-          ReactContext reactContext = (ReactContext) seekbar.getContext();
-          reactContext.getNativeModule(UIManagerModule.class).getEventDispatcher().dispatchEvent(
-              new ReactSliderEvent(
-                  seekbar.getId(),
-                  ((ReactSlider) seekbar).toRealProgress(progress),
-                  fromUser));
+          ReactSlider slider = (ReactSlider) seekbar;
+          if (slider.touchPredictor.isPredicting()) {
+            // the thumb is drawn ahead of the touch, JS gets the value actually touched
+            progress = slider.touchPredictor.getRealProgress();
+          }
+          slider.touchPredictor.onProgressReported(progress);
+          // captured now, the event may be dispatched after later touches were handled
+          long touchTime = fromUser ? slider.getTouchTime() : 0;
+          if (fromUser) {
+            ReactSliderLatency.record(ReactSliderLatency.Stage.PROGRESS_APPLIED, touchTime);
+          }
+          double value = slider.toRealProgress(progress);
+          // the decay of a fling continues the user's gesture
+          fromUser = fromUser || slider.fling.isFlinging();
+          if (slider.eventGranularity.accept(progress, value, fromUser)) {
+            slider.eventThrottle.onValueChange(value, fromUser, touchTime);
+          }
         }
 
         @Override
         public void onStartTrackingTouch(SeekBar seekbar) {
-          ReactContext reactContext = (ReactContext) seekbar.getContext();
-          reactContext.getNativeModule(UIManagerModule.class).getEventDispatcher().dispatchEvent(
+          ReactSlider slider = (ReactSlider) seekbar;
+          slider.eventThrottle.flush();
+          slider.eventGranularity.reset(
+              seekbar.getProgress(),
+              slider.toRealProgress(seekbar.getProgress()));
+          slider.advanceCoalescingKey();
+          EventDispatcher eventDispatcher = slider.getEventDispatcher();
+          if (eventDispatcher == null) return;
+          eventDispatcher.dispatchEvent(
               new ReactSlidingStartEvent(
                   seekbar.getId(),
-                  ((ReactSlider) seekbar).toRealProgress(seekbar.getProgress())));
+                  slider.toRealProgress(seekbar.getProgress()),
+                  getThumbValues(slider)));
         }
 
         @Override
         public void onStopTrackingTouch(SeekBar seekbar) {
-          ReactContext reactContext = (ReactContext) seekbar.getContext();
-          reactContext.getNativeModule(UIManagerModule.class).getEventDispatcher().dispatchEvent(
+          ReactSlider slider = (ReactSlider) seekbar;
+          // completed once the thumb comes to rest, see ReactSlider#onFlingEnd
+          if (slider.fling.isFlinging()) return;
+          if (slider.eventGranularity.hasSuppressedChanges(seekbar.getProgress())
+              || slider.touchSamples.hasSamples()) {
+            // always deliver the final value, along with the rest of the gesture's touch samples
+            slider.eventThrottle.onValueChange(
+                slider.toRealProgress(seekbar.getProgress()),
+                true,
+                slider.isFlingEnding() ? 0 : slider.getTouchTime());
+          }
+          slider.eventThrottle.flush();
+          // the last value event of the gesture was dispatched before this one and is therefore
+          // flushed before it, changes from here on must not coalesce with it
+          slider.advanceCoalescingKey();
+          EventDispatcher eventDispatcher = slider.getEventDispatcher();
+          if (eventDispatcher == null) return;
+          eventDispatcher.dispatchEvent(
               new ReactSlidingCompleteEvent(
                   seekbar.getId(),
-                  ((ReactSlider) seekbar).toRealProgress(seekbar.getProgress())));
+                  slider.toRealProgress(seekbar.getProgress()),
+                  getThumbValues(slider)));
         }
       };
 
+  /**
+   * A copy of the values of all thumbs in range mode, null otherwise.
+   */
+  @Nullable
+  private static double[] getThumbValues(ReactSlider slider) {
+    return slider.range.isEnabled() ? slider.range.getValues().clone() : null;
+  }
+
   private final InformantRegistry mInformantRegistry;
+  private final RasterCache mRasterCache;
 
-  ReactSliderManager(InformantRegistry registry) {
+  ReactSliderManager(InformantRegistry registry, RasterCache rasterCache) {
     super();
     mInformantRegistry = registry;
+    mRasterCache = rasterCache;
   }
 
   private DrawableHandler getDrawableHandler(ReactSlider view, @SliderDrawable int type) {
@@ -141,6 +175,16 @@ public class ReactSliderManager extends SimpleViewManager<ReactSlider> {
     handleRegistration(view, tag, type);
   }
 
+  @Nullable
+  private static double[] toDoubleArray(@Nullable ReadableArray array) {
+    if (array == null) return null;
+    double[] out = new double[array.size()];
+    for (int i = 0; i < out.length; i++) {
+      out[i] = array.getDouble(i);
+    }
+    return out;
+  }
+
   private void setTintColor(ReactSlider view, Integer color, @SliderDrawable int type) {
     getDrawableHandler(view, type).setTintColor(color);
   }
@@ -163,6 +207,7 @@ public class ReactSliderManager extends SimpleViewManager<ReactSlider> {
   @Override
   protected ReactSlider createViewInstance(ThemedReactContext context) {
     ReactSlider slider = new ReactSlider(context, null, STYLE);
+    slider.drawableHelper.setRasterCache(mRasterCache);
 
     if (Build.VERSION.SDK_INT >= 21) {
       /**
@@ -177,6 +222,9 @@ public class ReactSliderManager extends SimpleViewManager<ReactSlider> {
 
   @Override
   public void onDropViewInstance(@Nonnull ReactSlider view) {
+    view.eventThrottle.cancel();
+    view.fling.cancel();
+    view.setEventDispatcher(null);
     view.drawableHelper.tearDown();
   }
 
@@ -187,9 +235,74 @@ public class ReactSliderManager extends SimpleViewManager<ReactSlider> {
 
   @ReactProp(name = "value", defaultDouble = 0d)
   public void setValue(ReactSlider view, double value) {
-    view.setOnSeekBarChangeListener(null);
     view.setValue(value);
-    view.setOnSeekBarChangeListener(ON_CHANGE_LISTENER);
+  }
+
+  /**
+   * Minimum interval between two value change events, 0 disables throttling.
+   * See {@link ReactSliderEventThrottle}.
+   */
+  @ReactProp(name = "eventThrottleMs", defaultInt = 0)
+  public void setEventThrottleMs(ReactSlider view, int throttleMs) {
+    view.eventThrottle.setInterval(throttleMs);
+  }
+
+  /**
+   * One of "value" (default), "step", "delta" or "pixel", see {@link ReactSliderEventGranularity.Mode}.
+   */
+  @ReactProp(name = "eventGranularity")
+  public void setEventGranularity(ReactSlider view, @Nullable String granularity) {
+    view.eventGranularity.setMode(ReactSliderEventGranularity.parseMode(granularity));
+  }
+
+  /**
+   * The value delta for "delta" granularity or the thumb travel in pixels for "pixel" granularity.
+   */
+  @ReactProp(name = "eventGranularityThreshold", defaultDouble = 0d)
+  public void setEventGranularityThreshold(ReactSlider view, double threshold) {
+    view.eventGranularity.setThreshold(threshold);
+  }
+
+  @ReactProp(name = "values")
+  public void setValues(ReactSlider view, @Nullable ReadableArray values) {
+    view.setValues(toDoubleArray(values));
+  }
+
+  /**
+   * Enables range mode with a thumb for each value, see {@link ReactSliderRange}.
+   */
+  @ReactProp(name = "thumbValues")
+  public void setThumbValues(ReactSlider view, @Nullable ReadableArray values) {
+    view.setThumbValues(toDoubleArray(values));
+  }
+
+  /**
+   * Keep the thumb moving after a fast drag is released, see {@link ReactSliderFling}.
+   */
+  @ReactProp(name = "fling", defaultBoolean = false)
+  public void setFling(ReactSlider view, boolean fling) {
+    view.fling.setEnabled(fling);
+  }
+
+  /**
+   * Send every touch sample of a drag along with value change events, see {@link ReactSliderTouchSamples}.
+   */
+  @ReactProp(name = "touchSamples", defaultBoolean = false)
+  public void setTouchSamples(ReactSlider view, boolean touchSamples) {
+    view.touchSamples.setEnabled(touchSamples);
+  }
+
+  /**
+   * Draw the thumb where the finger is expected to be on the next frame, see {@link ReactSliderTouchPredictor}.
+   */
+  @ReactProp(name = "touchPrediction", defaultBoolean = false)
+  public void setTouchPrediction(ReactSlider view, boolean touchPrediction) {
+    view.touchPredictor.setEnabled(touchPrediction);
+  }
+
+  @ReactProp(name = "mostRecentEventCount", defaultInt = -1)
+  public void setMostRecentEventCount(ReactSlider view, int mostRecentEventCount) {
+    view.setMostRecentEventCount(mostRecentEventCount);
   }
 
   @ReactProp(name = "minimumValue", defaultDouble = 0d)
@@ -207,6 +320,24 @@ public class ReactSliderManager extends SimpleViewManager<ReactSlider> {
     view.setStep(value);
   }
 
+  @ReactProp(name = "highResolution", defaultBoolean = false)
+  public void setHighResolution(ReactSlider view, boolean highResolution) {
+    view.setHighResolution(highResolution);
+  }
+
+  /**
+   * One of "linear" (default), "logarithmic" or "power", see {@link ReactSliderScale.Type}.
+   */
+  @ReactProp(name = "scale")
+  public void setScale(ReactSlider view, @Nullable String scale) {
+    view.setScale(ReactSliderScale.parseType(scale));
+  }
+
+  @ReactProp(name = "scaleExponent", defaultDouble = 2d)
+  public void setScaleExponent(ReactSlider view, double exponent) {
+    view.setScaleExponent(exponent);
+  }
+
   @ReactProp(name = "thumbTintColor", customType = "Color")
   public void setThumbTintColor(ReactSlider view, Integer color) {
     setTintColor(view, color, SliderDrawable.THUMB);
@@ -226,6 +357,24 @@ public class ReactSliderManager extends SimpleViewManager<ReactSlider> {
     view.drawableHelper.setThumbImage(uri);
   }
 
+  /**
+   * How custom thumb and track views are rendered, "displayList" (default) or "bitmap", see {@link DrawableHandler.RenderMode}.
+   */
+  @ReactProp(name = "viewRenderMode")
+  public void setViewRenderMode(ReactSlider view, @Nullable String renderMode) {
+    view.drawableHelper.setRenderMode(DrawableHandler.parseRenderMode(renderMode));
+  }
+
+  @ReactProp(name = "tickMarks", defaultBoolean = false)
+  public void setTickMarks(ReactSlider view, boolean tickMarks) {
+    view.drawableHelper.setTickMarks(tickMarks);
+  }
+
+  @ReactProp(name = "tickMarkTintColor", customType = "Color")
+  public void setTickMarkTintColor(ReactSlider view, Integer color) {
+    view.drawableHelper.setTickMarkTintColor(color);
+  }
+
   @ReactProp(name = "minimumTrackTintColor", customType = "Color")
   public void setMinimumTrackTintColor(ReactSlider view, Integer color) {
     setTintColor(view, color, SliderDrawable.MINIMUM_TRACK);
@@ -261,15 +410,28 @@ public class ReactSliderManager extends SimpleViewManager<ReactSlider> {
     view.setInverted(inverted);
   }
 
+  /**
+   * Applies value, range and step changes of the transaction at once, without notifying JS.
+   */
+  @Override
+  protected void onAfterUpdateTransaction(@Nonnull ReactSlider view) {
+    super.onAfterUpdateTransaction(view);
+    view.setOnSeekBarChangeListener(null);
+    view.commitChanges();
+    view.setOnSeekBarChangeListener(ON_CHANGE_LISTENER);
+  }
+
   @Override
   protected void addEventEmitters(final ThemedReactContext reactContext, final ReactSlider view) {
+    view.setEventDispatcher(reactContext.getNativeModule(UIManagerModule.class).getEventDispatcher());
     view.setOnSeekBarChangeListener(ON_CHANGE_LISTENER);
   }
 
   @Override
   public Map getExportedCustomDirectEventTypeConstants() {
     return MapBuilder.of(ReactSlidingCompleteEvent.EVENT_NAME, MapBuilder.of("registrationName", "onRNCSliderSlidingComplete"),
-        ReactSlidingStartEvent.EVENT_NAME, MapBuilder.of("registrationName", "onRNCSliderSlidingStart"));
+        ReactSlidingStartEvent.EVENT_NAME, MapBuilder.of("registrationName", "onRNCSliderSlidingStart"),
+        ReactSliderEvent.EVENT_NAME, MapBuilder.of("registrationName", ReactSliderEvent.REGISTRATION_NAME));
   }
 
   @Nullable
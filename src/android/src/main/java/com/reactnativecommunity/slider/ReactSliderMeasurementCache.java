@@ -0,0 +1,144 @@
+package com.reactnativecommunity.slider;
+
+import android.content.ComponentCallbacks;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.content.res.TypedArray;
+import android.graphics.drawable.Drawable;
+import android.util.SparseArray;
+
+import com.facebook.yoga.YogaMeasureOutput;
+
+import java.util.Arrays;
+import java.util.WeakHashMap;
+
+/**
+ * Process wide cache of the slider's intrinsic size used by {@link ReactSliderManager.ReactSliderShadowNode}.
+ * The size depends only on the theme and the screen density so it is computed once per theme and density
+ * and reused by all shadow nodes. The cache is cleared on configuration change.
+ */
+class ReactSliderMeasurementCache {
+
+  private static final WeakHashMap<Resources.Theme, SparseArray<Long>> sCache = new WeakHashMap<>();
+  private static boolean sRegisteredForConfigurationChanges = false;
+
+  /**
+   * @return the measurement as returned by {@link YogaMeasureOutput#make(int, int)}
+   */
+  static synchronized long get(Context context) {
+    registerForConfigurationChanges(context);
+    Resources.Theme theme = context.getTheme();
+    int densityDpi = context.getResources().getDisplayMetrics().densityDpi;
+    SparseArray<Long> measurements = sCache.get(theme);
+    if (measurements == null) {
+      measurements = new SparseArray<>(1);
+      sCache.put(theme, measurements);
+    }
+    Long measurement = measurements.get(densityDpi);
+    if (measurement == null) {
+      measurement = measure(context);
+      measurements.put(densityDpi, measurement);
+    }
+    return measurement;
+  }
+
+  static synchronized void clear() {
+    sCache.clear();
+  }
+
+  private static void registerForConfigurationChanges(Context context) {
+    if (sRegisteredForConfigurationChanges) return;
+    context.getApplicationContext().registerComponentCallbacks(new ComponentCallbacks() {
+      @Override
+      public void onConfigurationChanged(Configuration newConfig) {
+        clear();
+      }
+
+      @Override
+      public void onLowMemory() {}
+    });
+    sRegisteredForConfigurationChanges = true;
+  }
+
+  /**
+   * Theme attributes read by {@link #measure(Context)}, sorted as required by {@link Context#obtainStyledAttributes}.
+   */
+  private static final int[] ATTRS = new int[]{
+      android.R.attr.padding,
+      android.R.attr.paddingLeft,
+      android.R.attr.paddingTop,
+      android.R.attr.paddingRight,
+      android.R.attr.paddingBottom,
+      android.R.attr.paddingStart,
+      android.R.attr.paddingEnd,
+      android.R.attr.minWidth,
+      android.R.attr.maxWidth,
+      android.R.attr.minHeight,
+      android.R.attr.maxHeight,
+      android.R.attr.progressDrawable,
+      android.R.attr.thumb
+  };
+
+  static {
+    Arrays.sort(ATTRS);
+  }
+
+  /**
+   * ProgressBar's defaults for unset size attributes, in pixels.
+   */
+  private static final int DEFAULT_MIN_SIZE = 24;
+  private static final int DEFAULT_MAX_SIZE = 48;
+
+  private static int indexOf(int attr) {
+    return Arrays.binarySearch(ATTRS, attr);
+  }
+
+  /**
+   * Computes what {@link android.widget.AbsSeekBar#onMeasure(int, int)} does for an unspecified measure spec
+   * directly from the seekBarStyle theme attributes, so no view is created on the layout thread.
+   * {@link ReactSlider} rearranges the layers of the progress drawable but keeps all of them,
+   * so its intrinsic size matches the theme's progress drawable.
+   */
+  private static long measure(Context context) {
+    TypedArray a = context.obtainStyledAttributes(null, ATTRS, ReactSliderManager.STYLE, 0);
+    try {
+      int padding = a.getDimensionPixelSize(indexOf(android.R.attr.padding), -1);
+      int paddingLeft = padding;
+      int paddingTop = padding;
+      int paddingRight = padding;
+      int paddingBottom = padding;
+      if (padding < 0) {
+        paddingLeft = a.getDimensionPixelSize(
+            indexOf(android.R.attr.paddingStart),
+            a.getDimensionPixelSize(indexOf(android.R.attr.paddingLeft), 0));
+        paddingRight = a.getDimensionPixelSize(
+            indexOf(android.R.attr.paddingEnd),
+            a.getDimensionPixelSize(indexOf(android.R.attr.paddingRight), 0));
+        paddingTop = a.getDimensionPixelSize(indexOf(android.R.attr.paddingTop), 0);
+        paddingBottom = a.getDimensionPixelSize(indexOf(android.R.attr.paddingBottom), 0);
+      }
+
+      int minWidth = a.getDimensionPixelSize(indexOf(android.R.attr.minWidth), DEFAULT_MIN_SIZE);
+      int maxWidth = a.getDimensionPixelSize(indexOf(android.R.attr.maxWidth), DEFAULT_MAX_SIZE);
+      int minHeight = a.getDimensionPixelSize(indexOf(android.R.attr.minHeight), DEFAULT_MIN_SIZE);
+      int maxHeight = a.getDimensionPixelSize(indexOf(android.R.attr.maxHeight), DEFAULT_MAX_SIZE);
+      Drawable progressDrawable = a.getDrawable(indexOf(android.R.attr.progressDrawable));
+      Drawable thumb = a.getDrawable(indexOf(android.R.attr.thumb));
+
+      int thumbHeight = thumb == null ? 0 : thumb.getIntrinsicHeight();
+      int width = 0;
+      int height = 0;
+      if (progressDrawable != null) {
+        width = Math.max(minWidth, Math.min(maxWidth, progressDrawable.getIntrinsicWidth()));
+        height = Math.max(minHeight, Math.min(maxHeight, progressDrawable.getIntrinsicHeight()));
+        height = Math.max(thumbHeight, height);
+      }
+      width += paddingLeft + paddingRight;
+      height += paddingTop + paddingBottom;
+      return YogaMeasureOutput.make(width, height);
+    } finally {
+      a.recycle();
+    }
+  }
+}
@@ -9,11 +9,12 @@ import com.facebook.react.bridge.NativeModule;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.uimanager.ViewManager;
 import com.facebook.react.bridge.JavaScriptModule;
+import com.reactnativecommunity.slider.drawables.RasterCache;
 
 public class ReactSliderPackage implements ReactPackage {
     @Override
     public List<NativeModule> createNativeModules(ReactApplicationContext reactContext) {
-        return Collections.emptyList();
+        return Collections.<NativeModule>singletonList(new ReactSliderLatencyModule(reactContext));
     }
 
     // Deprecated from RN 0.47
@@ -26,8 +27,10 @@ public class ReactSliderPackage implements ReactPackage {
     public List<ViewManager> createViewManagers(ReactApplicationContext reactContext) {
         final ReactInformantViewManager.InformantRegistry informantRegistry =
             new ReactInformantViewManager.InformantRegistry(reactContext, true);
+        // identical custom views of all sliders are rasterized once
+        final RasterCache rasterCache = new RasterCache(reactContext);
         return Arrays.<ViewManager>asList(
-            new ReactSliderManager(informantRegistry),
+            new ReactSliderManager(informantRegistry, rasterCache),
             new ReactInformantViewManager(informantRegistry));
     }
 }
@@ -0,0 +1,161 @@
+package com.reactnativecommunity.slider;
+
+import android.graphics.Canvas;
+import android.view.MotionEvent;
+
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Range mode of {@link ReactSlider}, several thumbs sharing one track, see {@link ReactSliderManager#setThumbValues}.
+ *
+ * <p>The SeekBar's own thumb acts as the active thumb, the others are drawn at their positions by
+ * {@link com.reactnativecommunity.slider.drawables.ReactSliderDrawableHelper#drawThumbAt(Canvas, int)}.
+ * A touch activates the nearest thumb which is then kept between its neighbours.
+ */
+class ReactSliderRange {
+
+  private final ReactSlider mSlider;
+  private @Nullable double[] mValues;
+  private int[] mProgress = new int[0];
+  private double[] mValuesOut = new double[0];
+  private int mActiveThumb = 0;
+
+  ReactSliderRange(ReactSlider slider) {
+    mSlider = slider;
+  }
+
+  boolean isEnabled() {
+    return mProgress.length > 0;
+  }
+
+  int getThumbCount() {
+    return mProgress.length;
+  }
+
+  int getActiveThumb() {
+    return mActiveThumb;
+  }
+
+  int getActiveProgress() {
+    return mProgress[mActiveThumb];
+  }
+
+  void setValues(@Nullable double[] values) {
+    mValues = values;
+  }
+
+  /**
+   * Map the values set from JS to SeekBar progress, called once the range of the slider is updated.
+   */
+  void update() {
+    int count = mValues == null ? 0 : mValues.length;
+    if (count != mProgress.length) {
+      mProgress = new int[count];
+      mValuesOut = new double[count];
+      mActiveThumb = 0;
+    }
+    for (int i = 0; i < count; i++) {
+      mProgress[i] = mSlider.toSeekBarProgress(mValues[i]);
+    }
+    Arrays.sort(mProgress);
+  }
+
+  /**
+   * The real value of every thumb, the returned array is reused.
+   */
+  double[] getValues() {
+    for (int i = 0; i < mProgress.length; i++) {
+      int progress = i == mActiveThumb ? constrain(mSlider.getProgress()) : mProgress[i];
+      mValuesOut[i] = mSlider.toRealProgress(progress);
+    }
+    return mValuesOut;
+  }
+
+  /**
+   * Activates the thumb nearest to the touch and keeps the touch between the neighbours of the active thumb.
+   * @return the horizontal offset applied to the event, revert it once the event was handled
+   */
+  float onTouchEvent(MotionEvent event) {
+    if (event.getActionMasked() == MotionEvent.ACTION_DOWN) {
+      activateThumb(findNearestThumb(event.getX()));
+    }
+    float x = event.getX();
+    int activeThumb = mActiveThumb;
+    float min = activeThumb > 0 ? toPosition(mProgress[activeThumb - 1]) : x;
+    float max = activeThumb < mProgress.length - 1 ? toPosition(mProgress[activeThumb + 1]) : x;
+    float offset = Math.max(min, Math.min(max, x)) - x;
+    event.offsetLocation(offset, 0);
+    return offset;
+  }
+
+  /**
+   * Corrects rounding of the touch position in case the active thumb overstepped a neighbour.
+   */
+  void onTouchEventHandled() {
+    int progress = mSlider.getProgress();
+    int constrained = constrain(progress);
+    if (constrained != progress) {
+      mSlider.setProgressSilently(constrained);
+    }
+    mProgress[mActiveThumb] = constrained;
+  }
+
+  void drawInactiveThumbs(Canvas canvas) {
+    for (int i = 0; i < mProgress.length; i++) {
+      if (i != mActiveThumb) {
+        mSlider.drawableHelper.drawThumbAt(canvas, mProgress[i]);
+      }
+    }
+  }
+
+  private void activateThumb(int index) {
+    if (index == mActiveThumb) return;
+    mProgress[mActiveThumb] = mSlider.getProgress();
+    mActiveThumb = index;
+    mSlider.setProgressSilently(mProgress[index]);
+  }
+
+  private int findNearestThumb(float x) {
+    int nearest = 0;
+    float distance = Float.MAX_VALUE;
+    for (int i = 0; i < mProgress.length; i++) {
+      int progress = i == mActiveThumb ? mSlider.getProgress() : mProgress[i];
+      float d = Math.abs(toPosition(progress) - x);
+      // prefer the upper thumb of stacked thumbs when touching to their right so they can be separated
+      if (d < distance || (d == distance && x > toPosition(progress))) {
+        distance = d;
+        nearest = i;
+      }
+    }
+    return nearest;
+  }
+
+  /**
+   * The lowest progress the active thumb may take, the progress of its lower neighbour.
+   */
+  int getMinProgress() {
+    return mActiveThumb > 0 ? mProgress[mActiveThumb - 1] : 0;
+  }
+
+  /**
+   * The highest progress the active thumb may take, the progress of its upper neighbour.
+   */
+  int getMaxProgress() {
+    return mActiveThumb < mProgress.length - 1 ? mProgress[mActiveThumb + 1] : mSlider.getMax();
+  }
+
+  private int constrain(int progress) {
+    return Math.max(getMinProgress(), Math.min(getMaxProgress(), progress));
+  }
+
+  /**
+   * The x coordinate AbsSeekBar maps to the given progress.
+   */
+  private float toPosition(int progress) {
+    int available = mSlider.getWidth() - mSlider.getPaddingLeft() - mSlider.getPaddingRight();
+    float scale = mSlider.getMax() > 0 ? progress / (float) mSlider.getMax() : 0;
+    return mSlider.getPaddingLeft() + scale * available;
+  }
+}
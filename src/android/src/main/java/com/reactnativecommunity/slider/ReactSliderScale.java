@@ -0,0 +1,89 @@
+package com.reactnativecommunity.slider;
+
+import androidx.annotation.IntDef;
+import androidx.annotation.Nullable;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Maps the position of the thumb along the track (0..1) to a value in min..max and back,
+ * see {@link ReactSliderManager#setScale(ReactSlider, String)}.
+ */
+class ReactSliderScale {
+
+  @IntDef({
+      Type.LINEAR,
+      Type.LOGARITHMIC,
+      Type.POWER
+  })
+  @Retention(RetentionPolicy.SOURCE)
+  @interface Type {
+    int LINEAR = 0;
+    /** min * (max / min) ^ fraction, requires min and max to have the same sign */
+    int LOGARITHMIC = 1;
+    /** min + (max - min) * fraction ^ exponent */
+    int POWER = 2;
+  }
+
+  static @Type int parseType(@Nullable String type) {
+    if (type == null) return Type.LINEAR;
+    switch (type) {
+      case "logarithmic":
+        return Type.LOGARITHMIC;
+      case "power":
+        return Type.POWER;
+      default:
+        return Type.LINEAR;
+    }
+  }
+
+  private @Type int mType = Type.LINEAR;
+  private double mExponent = 2;
+
+  void setType(@Type int type) {
+    mType = type;
+  }
+
+  void setExponent(double exponent) {
+    mExponent = exponent;
+  }
+
+  /**
+   * Scales that can't be applied to the range (e.g. logarithmic over 0) fall back to linear.
+   */
+  boolean isLinear(double min, double max) {
+    switch (mType) {
+      case Type.LOGARITHMIC:
+        return min * max <= 0 || min == max;
+      case Type.POWER:
+        return mExponent <= 0 || mExponent == 1;
+      case Type.LINEAR:
+      default:
+        return true;
+    }
+  }
+
+  double toValue(double fraction, double min, double max) {
+    if (isLinear(min, max)) {
+      return min + (max - min) * fraction;
+    } else if (mType == Type.LOGARITHMIC) {
+      return min * Math.pow(max / min, fraction);
+    } else {
+      return min + (max - min) * Math.pow(fraction, mExponent);
+    }
+  }
+
+  double toFraction(double value, double min, double max) {
+    if (min == max) return 0;
+    double fraction;
+    if (isLinear(min, max)) {
+      fraction = (value - min) / (max - min);
+    } else if (mType == Type.LOGARITHMIC) {
+      fraction = Math.log(value / min) / Math.log(max / min);
+    } else {
+      fraction = Math.pow(Math.max((value - min) / (max - min), 0), 1 / mExponent);
+    }
+    return Double.isNaN(fraction) ? 0 : fraction;
+  }
+}
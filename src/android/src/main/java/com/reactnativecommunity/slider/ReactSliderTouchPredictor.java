@@ -0,0 +1,138 @@
+package com.reactnativecommunity.slider;
+
+import android.content.Context;
+import android.view.Display;
+import android.view.MotionEvent;
+import android.view.WindowManager;
+
+/**
+ * Moves the thumb to where the finger is expected to be when the frame is displayed, extrapolating the
+ * recent touch samples, see {@link ReactSliderManager#setTouchPrediction(ReactSlider, boolean)}.
+ * Only the rendered thumb is ahead, value change events report the position actually touched, see {@link #getRealProgress()}.
+ * The thumb lands on the touched position on release. Not applied in range mode.
+ */
+class ReactSliderTouchPredictor {
+
+  private static final float DEFAULT_REFRESH_RATE = 60;
+  /** Samples older than this are not used to estimate the velocity. */
+  private static final long HISTORY_MS = 50;
+  private static final int HISTORY_SIZE = 8;
+
+  private final ReactSlider mSlider;
+  private final ReactSliderRange mRange;
+  private final float mFrameMs;
+  private boolean mEnabled = false;
+  private boolean mPredicting = false;
+  private int mRealProgress;
+  /** The progress value change events last reported, see {@link #onProgressReported(int)} */
+  private int mReportedProgress = -1;
+
+  /** Ring buffer of the most recent (time, x) samples. */
+  private final long[] mTimes = new long[HISTORY_SIZE];
+  private final float[] mPositions = new float[HISTORY_SIZE];
+  private int mCount = 0;
+
+  ReactSliderTouchPredictor(ReactSlider slider, ReactSliderRange range) {
+    mSlider = slider;
+    mRange = range;
+    float refreshRate = DEFAULT_REFRESH_RATE;
+    WindowManager windowManager = (WindowManager) slider.getContext().getSystemService(Context.WINDOW_SERVICE);
+    if (windowManager != null) {
+      Display display = windowManager.getDefaultDisplay();
+      if (display != null && display.getRefreshRate() > 0) {
+        refreshRate = display.getRefreshRate();
+      }
+    }
+    mFrameMs = 1000 / refreshRate;
+  }
+
+  void setEnabled(boolean enabled) {
+    mEnabled = enabled;
+    mCount = 0;
+  }
+
+  /**
+   * True while the SeekBar handles a predicted touch.
+   */
+  boolean isPredicting() {
+    return mPredicting;
+  }
+
+  /**
+   * The progress of the position actually touched, valid while {@link #isPredicting()}.
+   */
+  int getRealProgress() {
+    return mRealProgress;
+  }
+
+  /**
+   * Called before the SeekBar handles the event.
+   * @return the horizontal offset applied to the event, revert it once the event was handled
+   */
+  float onTouchEvent(MotionEvent event) {
+    if (!mEnabled || mRange.isEnabled()) return 0;
+    int action = event.getActionMasked();
+    if (action == MotionEvent.ACTION_DOWN) {
+      mCount = 0;
+    }
+    for (int i = 0; i < event.getHistorySize(); i++) {
+      add(event.getHistoricalEventTime(i), event.getHistoricalX(i));
+    }
+    add(event.getEventTime(), event.getX());
+    if (action != MotionEvent.ACTION_MOVE) {
+      return 0;
+    }
+    float offset = predictOffset(event.getEventTime());
+    if (offset == 0) {
+      return 0;
+    }
+    mRealProgress = mSlider.progressAt(event.getX());
+    mPredicting = true;
+    event.offsetLocation(offset, 0);
+    return offset;
+  }
+
+  /**
+   * Reports the touched position if only it changed, the SeekBar notifies changes of the predicted one.
+   */
+  void onTouchEventHandled() {
+    if (mPredicting && mRealProgress != mReportedProgress) {
+      mSlider.notifyProgressChanged();
+    }
+    mPredicting = false;
+  }
+
+  /**
+   * Called with the progress of every value change event, the touched one while predicting.
+   */
+  void onProgressReported(int progress) {
+    mReportedProgress = progress;
+  }
+
+  private void add(long time, float x) {
+    int index = mCount % HISTORY_SIZE;
+    mTimes[index] = time;
+    mPositions[index] = x;
+    mCount++;
+  }
+
+  /**
+   * Linear extrapolation one frame ahead from the oldest recent sample, no further than the distance it is based on.
+   */
+  private float predictOffset(long now) {
+    int newest = (mCount - 1) % HISTORY_SIZE;
+    int oldest = newest;
+    for (int i = 1; i < Math.min(mCount, HISTORY_SIZE); i++) {
+      int index = (mCount - 1 - i) % HISTORY_SIZE;
+      if (now - mTimes[index] > HISTORY_MS) break;
+      oldest = index;
+    }
+    long dt = mTimes[newest] - mTimes[oldest];
+    if (dt <= 0) {
+      return 0;
+    }
+    float distance = mPositions[newest] - mPositions[oldest];
+    float offset = distance / dt * mFrameMs;
+    return Math.abs(offset) > Math.abs(distance) ? distance : offset;
+  }
+}
@@ -0,0 +1,83 @@
+package com.reactnativecommunity.slider;
+
+import android.view.MotionEvent;
+
+/**
+ * Collects every touch sample of a drag including the historical ones batched into a single {@link MotionEvent},
+ * see {@link ReactSliderManager#setTouchSamples(ReactSlider, boolean)}.
+ * Samples are kept as (time, value) pairs until the next value change event is dispatched, which carries them to JS.
+ */
+class ReactSliderTouchSamples {
+
+  private static final int INITIAL_CAPACITY = 32;
+
+  private final ReactSlider mSlider;
+  private boolean mEnabled = false;
+  private double[] mSamples = new double[INITIAL_CAPACITY];
+  private int mLength = 0;
+
+  ReactSliderTouchSamples(ReactSlider slider) {
+    mSlider = slider;
+  }
+
+  void setEnabled(boolean enabled) {
+    mEnabled = enabled;
+    mLength = 0;
+  }
+
+  /**
+   * Called before the SeekBar handles the event.
+   */
+  void onTouchEvent(MotionEvent event) {
+    if (!mEnabled || mSlider.getMax() <= 0) return;
+    switch (event.getActionMasked()) {
+      case MotionEvent.ACTION_DOWN:
+        mLength = 0;
+        break;
+      case MotionEvent.ACTION_MOVE:
+      case MotionEvent.ACTION_UP:
+        break;
+      default:
+        return;
+    }
+    for (int i = 0; i < event.getHistorySize(); i++) {
+      add(event.getHistoricalEventTime(i), event.getHistoricalX(i));
+    }
+    add(event.getEventTime(), event.getX());
+  }
+
+  /**
+   * @return true if samples weren't handed to an event yet, e.g. trailing moves that didn't change the progress
+   */
+  boolean hasSamples() {
+    return mLength > 0;
+  }
+
+  /**
+   * Hands the samples collected so far to the event.
+   */
+  void drainTo(ReactSliderEvent event) {
+    if (mLength > 0) {
+      event.appendSamples(mSamples, mLength);
+      mLength = 0;
+    }
+  }
+
+  private void add(long time, float x) {
+    if (mLength + 2 > mSamples.length) {
+      double[] samples = new double[mSamples.length * 2];
+      System.arraycopy(mSamples, 0, samples, 0, mLength);
+      mSamples = samples;
+    }
+    mSamples[mLength++] = time;
+    mSamples[mLength++] = toValue(x);
+  }
+
+  private double toValue(float x) {
+    int progress = mSlider.progressAt(x);
+    if (mSlider.range.isEnabled()) {
+      progress = Math.max(mSlider.range.getMinProgress(), Math.min(mSlider.range.getMaxProgress(), progress));
+    }
+    return mSlider.toRealProgress(progress);
+  }
+}
@@ -7,7 +7,10 @@
 
 package com.reactnativecommunity.slider;
 
+import androidx.annotation.Nullable;
+
 import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
@@ -20,10 +23,19 @@ public class ReactSlidingCompleteEvent extends Event<ReactSlidingCompleteEvent>
     public static final String EVENT_NAME = "topSlidingComplete";
 
     private final double mValue;
+    private final @Nullable double[] mThumbValues;
 
     public ReactSlidingCompleteEvent(int viewId, double value) {
+        this(viewId, value, null);
+    }
+
+    /**
+     * @param thumbValues the values of all thumbs in range mode, see {@link ReactSliderRange}
+     */
+    public ReactSlidingCompleteEvent(int viewId, double value, @Nullable double[] thumbValues) {
         super(viewId);
         mValue = value;
+        mThumbValues = thumbValues;
     }
 
     public double getValue() {
@@ -54,6 +66,13 @@ public class ReactSlidingCompleteEvent extends Event<ReactSlidingCompleteEvent>
         WritableMap eventData = Arguments.createMap();
         eventData.putInt("target", getViewTag());
         eventData.putDouble("value", getValue());
+        if (mThumbValues != null) {
+            WritableArray values = Arguments.createArray();
+            for (double value : mThumbValues) {
+                values.pushDouble(value);
+            }
+            eventData.putArray("values", values);
+        }
         return eventData;
     }
 
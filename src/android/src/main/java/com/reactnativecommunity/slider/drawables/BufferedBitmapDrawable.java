@@ -0,0 +1,283 @@
+package com.reactnativecommunity.slider.drawables;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.ColorFilter;
+import android.graphics.Paint;
+import android.graphics.Picture;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.util.Log;
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.UiThreadUtil;
+import com.reactnativecommunity.slider.ReactSliderManager;
+
+/**
+ * Draws a rasterized view, double buffered so the view is rasterized again off the UI thread.
+ *
+ * <p>The view is recorded into a {@link Picture} on the UI thread, which is cheap, and played back into the back buffer
+ * on a render thread shared by all sliders while the front buffer is displayed. The buffers are swapped on the UI thread
+ * once done. The previous front buffer becomes the back buffer a frame later, the frame drawing it last may still be
+ * uploading it meanwhile. One rasterization runs at a time, see {@link Callback#onRasterized}.
+ *
+ * <p>With a {@link RasterCache} the first rasterization is shared with identical ones of other sliders, such as the
+ * thumbs of a list of sliders. Shared bitmaps are never drawn into again, a view drawn again leaves the cache and is
+ * double buffered privately from then on, so an animated view neither allocates nor hashes its pixels every frame.
+ */
+class BufferedBitmapDrawable extends Drawable {
+
+  interface Callback {
+    /**
+     * Called on the UI thread once the back buffer was swapped in
+     * @param resized the size of the drawable changed
+     */
+    void onRasterized(BufferedBitmapDrawable drawable, boolean resized);
+  }
+
+  private static @Nullable Handler sRenderHandler;
+
+  private static synchronized Handler getRenderHandler() {
+    if (sRenderHandler == null) {
+      HandlerThread thread = new HandlerThread("RNCSliderRender", Process.THREAD_PRIORITY_DISPLAY);
+      thread.start();
+      sRenderHandler = new Handler(thread.getLooper());
+    }
+    return sRenderHandler;
+  }
+
+  private final Callback mCallback;
+  private final @Nullable RasterCache mCache;
+  private final Paint mPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+  private final Picture mPicture = new Picture();
+  private @Nullable Bitmap mFront;
+  /** the front buffer was acquired from {@link #mCache} and must be given back */
+  private boolean mFrontShared = false;
+  /** the rasterization to swap in is shared, see {@link #unlockCanvas()} */
+  private boolean mSharing = false;
+  /** touched by the render thread only while rasterizing */
+  private @Nullable Bitmap mBack;
+  private @Nullable Canvas mBackCanvas;
+  /** the rasterization to swap in */
+  private @Nullable Bitmap mRendered;
+  /** the previous front buffer, see {@link #mRetireCallback} */
+  private @Nullable Bitmap mRetired;
+  private boolean mRasterizing = false;
+  private volatile boolean mReleased = false;
+
+  private final Runnable mRasterizeRunnable = new Runnable() {
+    @Override
+    public void run() {
+      boolean success = false;
+      if (!mReleased) {
+        try {
+          int width = mPicture.getWidth();
+          int height = mPicture.getHeight();
+          if (mBack == null || mBack.getWidth() != width || mBack.getHeight() != height) {
+            mBack = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            mBackCanvas = new Canvas(mBack);
+          } else {
+            mBack.eraseColor(Color.TRANSPARENT);
+          }
+          mBackCanvas.drawPicture(mPicture);
+          mRendered = mBack;
+          success = true;
+        } catch (RuntimeException e) {
+          // e.g. a hardware bitmap, which software canvases can't draw
+          Log.w(ReactSliderManager.REACT_CLASS, "unable to render view", e);
+        }
+      }
+      UiThreadUtil.runOnUiThread(success ? mSwapRunnable : mAbortRunnable);
+    }
+  };
+
+  private final Runnable mSwapRunnable = new Runnable() {
+    @Override
+    public void run() {
+      mRasterizing = false;
+      Bitmap previous = mFront;
+      boolean previousShared = mFrontShared;
+      mFront = mRendered;
+      mFrontShared = mSharing;
+      mRendered = null;
+      mSharing = false;
+      boolean changed = previous != mFront;
+      boolean resized = previous == null
+          || previous.getWidth() != mFront.getWidth() || previous.getHeight() != mFront.getHeight();
+      // the back buffer is displayed now
+      mBack = null;
+      mBackCanvas = null;
+      if (changed && previous != null) {
+        if (previousShared) {
+          releaseBitmap(previous);
+        } else {
+          retire(previous);
+        }
+      }
+      if (mReleased) {
+        release();
+        return;
+      }
+      if (changed) {
+        // the cache keeps the bitmap already displayed if it had no identical one
+        invalidateSelf();
+      }
+      mCallback.onRasterized(BufferedBitmapDrawable.this, resized);
+    }
+  };
+
+  /**
+   * Shares the first rendering, see {@link #unlockCanvas()}.
+   */
+  private final Runnable mShareRunnable = new Runnable() {
+    @Override
+    public void run() {
+      if (!mReleased) {
+        mRendered = mCache.acquire(mRendered);
+      }
+      UiThreadUtil.runOnUiThread(mSwapRunnable);
+    }
+  };
+
+  private final Runnable mAbortRunnable = new Runnable() {
+    @Override
+    public void run() {
+      mRasterizing = false;
+      if (mReleased) {
+        release();
+      } else {
+        mCallback.onRasterized(BufferedBitmapDrawable.this, false);
+      }
+    }
+  };
+
+  /**
+   * Reuses the previous front buffer once a frame has passed, a rasterization started meanwhile draws into a new one.
+   */
+  private final Choreographer.FrameCallback mRetireCallback = new Choreographer.FrameCallback() {
+    @Override
+    public void doFrame(long frameTimeNanos) {
+      if (!mReleased && !mRasterizing && mBack == null && mRetired != null) {
+        mBack = mRetired;
+        mBackCanvas = new Canvas(mRetired);
+      }
+      mRetired = null;
+    }
+  };
+
+  BufferedBitmapDrawable(Callback callback, @Nullable RasterCache cache) {
+    mCallback = callback;
+    mCache = cache;
+  }
+
+  /**
+   * Draws into a new front buffer right away, on the UI thread, used when there is nothing to display meanwhile.
+   * Call {@link #unlockCanvas()} once done.
+   */
+  Canvas lockCanvas(int width, int height) {
+    mFront = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+    return new Canvas(mFront);
+  }
+
+  void unlockCanvas() {
+    if (mFront != null && mCache != null) {
+      // hashing the pixels is too slow for the UI thread, the rendering is displayed as is until shared
+      mRendered = mFront;
+      mSharing = true;
+      mRasterizing = true;
+      getRenderHandler().post(mShareRunnable);
+    }
+  }
+
+  private void releaseBitmap(@Nullable Bitmap bitmap) {
+    if (bitmap != null && mCache != null) {
+      mCache.release(bitmap);
+    }
+  }
+
+  private void retire(@Nullable Bitmap bitmap) {
+    Choreographer.getInstance().removeFrameCallback(mRetireCallback);
+    mRetired = bitmap;
+    if (bitmap != null) {
+      Choreographer.getInstance().postFrameCallback(mRetireCallback);
+    }
+  }
+
+  boolean isRasterizing() {
+    return mRasterizing;
+  }
+
+  /**
+   * Record the view into the returned canvas, then call {@link #rasterize()}. UI thread only.
+   */
+  Canvas beginRecording(int width, int height) {
+    return mPicture.beginRecording(width, height);
+  }
+
+  void rasterize() {
+    mPicture.endRecording();
+    mRasterizing = true;
+    getRenderHandler().post(mRasterizeRunnable);
+  }
+
+  /**
+   * Drops the buffers once they aren't used anymore, shared bitmaps are given back to the cache.
+   * They aren't recycled but left to the GC, the drawable may still be drawn by a frame recorded before it was replaced,
+   * or while the slider is being removed.
+   */
+  void release() {
+    mReleased = true;
+    if (mRasterizing) return;
+    if (mFrontShared) releaseBitmap(mFront);
+    mBack = null;
+    mBackCanvas = null;
+    retire(null);
+  }
+
+  @Override
+  public void draw(@NonNull Canvas canvas) {
+    Rect bounds = getBounds();
+    if (mFront == null || mFront.isRecycled() || bounds.isEmpty()) return;
+    canvas.drawBitmap(mFront, null, bounds, mPaint);
+  }
+
+  @Override
+  public int getIntrinsicWidth() {
+    return mFront != null ? mFront.getWidth() : -1;
+  }
+
+  @Override
+  public int getIntrinsicHeight() {
+    return mFront != null ? mFront.getHeight() : -1;
+  }
+
+  @Override
+  public void setAlpha(int alpha) {
+    mPaint.setAlpha(alpha);
+    invalidateSelf();
+  }
+
+  @Override
+  public int getAlpha() {
+    return mPaint.getAlpha();
+  }
+
+  @Override
+  public void setColorFilter(@Nullable ColorFilter colorFilter) {
+    mPaint.setColorFilter(colorFilter);
+    invalidateSelf();
+  }
+
+  @Override
+  public int getOpacity() {
+    return PixelFormat.TRANSLUCENT;
+  }
+}
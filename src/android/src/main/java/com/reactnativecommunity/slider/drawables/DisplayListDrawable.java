@@ -0,0 +1,228 @@
+package com.reactnativecommunity.slider.drawables;
+
+import android.annotation.TargetApi;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.ColorFilter;
+import android.graphics.Paint;
+import android.graphics.Picture;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.RenderNode;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Holds the drawing commands of a view instead of its pixels, see {@link DrawableHandler.RenderMode#DISPLAY_LIST}.
+ * Recording is cheaper than rasterizing, no pixel memory is held and the result stays sharp at any scale.
+ * The recording is scaled to the bounds, same as a {@link android.graphics.drawable.BitmapDrawable}.
+ *
+ * <p>Backed by a {@link RenderNode} on API 29+ and by a {@link Picture} on API 23+,
+ * which is the first version hardware accelerated canvases can draw pictures on.
+ * {@link #createWithFallback(Recorder)} falls back to a bitmap on older versions.
+ */
+abstract class DisplayListDrawable extends Drawable {
+
+  static boolean isSupported() {
+    return Build.VERSION.SDK_INT >= Build.VERSION_CODES.M;
+  }
+
+  /**
+   * @param recorder records the view again for canvases that can't draw the display list
+   */
+  static DisplayListDrawable create(Recorder recorder) {
+    DisplayListDrawable drawable;
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+      drawable = new RenderNodeDisplayList();
+    } else {
+      drawable = new PictureDisplayList();
+    }
+    drawable.mRecorder = recorder;
+    return drawable;
+  }
+
+  /**
+   * Same as {@link #create(Recorder)}, rasterizing into a bitmap where display lists are not supported.
+   */
+  static DisplayListDrawable createWithFallback(Recorder recorder) {
+    if (isSupported()) {
+      return create(recorder);
+    }
+    BitmapDisplayList drawable = new BitmapDisplayList();
+    drawable.mRecorder = recorder;
+    return drawable;
+  }
+
+  interface Recorder {
+    void record(Canvas canvas);
+  }
+
+  private final Paint mPaint = new Paint();
+  Recorder mRecorder;
+  int mWidth = 0;
+  int mHeight = 0;
+
+  abstract Canvas beginRecording(int width, int height);
+
+  abstract void endRecording();
+
+  abstract void drawDisplayList(Canvas canvas, @Nullable Paint layerPaint);
+
+  /**
+   * Drops the recording, the drawable won't be drawn anymore.
+   */
+  void release() {}
+
+  @Override
+  public void draw(@NonNull Canvas canvas) {
+    Rect bounds = getBounds();
+    if (mWidth <= 0 || mHeight <= 0 || bounds.isEmpty()) return;
+    int saveCount = canvas.save();
+    canvas.clipRect(bounds);
+    canvas.translate(bounds.left, bounds.top);
+    canvas.scale(bounds.width() / (float) mWidth, bounds.height() / (float) mHeight);
+    boolean needsLayer = mPaint.getAlpha() < 255 || mPaint.getColorFilter() != null;
+    drawDisplayList(canvas, needsLayer ? mPaint : null);
+    canvas.restoreToCount(saveCount);
+  }
+
+  @Override
+  public int getIntrinsicWidth() {
+    return mWidth;
+  }
+
+  @Override
+  public int getIntrinsicHeight() {
+    return mHeight;
+  }
+
+  @Override
+  public void setAlpha(int alpha) {
+    mPaint.setAlpha(alpha);
+    invalidateSelf();
+  }
+
+  @Override
+  public int getAlpha() {
+    return mPaint.getAlpha();
+  }
+
+  @Override
+  public void setColorFilter(@Nullable ColorFilter colorFilter) {
+    mPaint.setColorFilter(colorFilter);
+    invalidateSelf();
+  }
+
+  @Override
+  public int getOpacity() {
+    return PixelFormat.TRANSLUCENT;
+  }
+
+  @TargetApi(Build.VERSION_CODES.M)
+  private static class PictureDisplayList extends DisplayListDrawable {
+    private final Picture mPicture = new Picture();
+
+    @Override
+    Canvas beginRecording(int width, int height) {
+      mWidth = width;
+      mHeight = height;
+      return mPicture.beginRecording(width, height);
+    }
+
+    @Override
+    void endRecording() {
+      mPicture.endRecording();
+    }
+
+    @Override
+    void drawDisplayList(Canvas canvas, @Nullable Paint layerPaint) {
+      if (layerPaint != null) {
+        canvas.saveLayer(0, 0, mWidth, mHeight, layerPaint);
+      }
+      canvas.drawPicture(mPicture);
+    }
+  }
+
+  @TargetApi(Build.VERSION_CODES.Q)
+  private static class RenderNodeDisplayList extends DisplayListDrawable {
+    private final RenderNode mRenderNode = new RenderNode("RNCSliderDrawable");
+    /** Recorded on demand for software canvases, which can't draw render nodes. */
+    private @Nullable Picture mSoftwarePicture;
+
+    @Override
+    Canvas beginRecording(int width, int height) {
+      mWidth = width;
+      mHeight = height;
+      mSoftwarePicture = null;
+      mRenderNode.setPosition(0, 0, width, height);
+      return mRenderNode.beginRecording(width, height);
+    }
+
+    @Override
+    void endRecording() {
+      mRenderNode.endRecording();
+    }
+
+    @Override
+    void drawDisplayList(Canvas canvas, @Nullable Paint layerPaint) {
+      if (canvas.isHardwareAccelerated()) {
+        mRenderNode.setUseCompositingLayer(layerPaint != null, layerPaint);
+        canvas.drawRenderNode(mRenderNode);
+      } else {
+        if (mSoftwarePicture == null) {
+          mSoftwarePicture = new Picture();
+          mRecorder.record(mSoftwarePicture.beginRecording(mWidth, mHeight));
+          mSoftwarePicture.endRecording();
+        }
+        if (layerPaint != null) {
+          canvas.saveLayer(0, 0, mWidth, mHeight, layerPaint);
+        }
+        canvas.drawPicture(mSoftwarePicture);
+      }
+    }
+
+    @Override
+    void release() {
+      mRenderNode.discardDisplayList();
+      mSoftwarePicture = null;
+    }
+  }
+
+  private static class BitmapDisplayList extends DisplayListDrawable {
+    private @Nullable Bitmap mBitmap;
+    private @Nullable Canvas mCanvas;
+
+    @Override
+    Canvas beginRecording(int width, int height) {
+      mWidth = width;
+      mHeight = height;
+      if (mBitmap == null || mBitmap.getWidth() != width || mBitmap.getHeight() != height) {
+        mBitmap = Bitmap.createBitmap(Math.max(width, 1), Math.max(height, 1), Bitmap.Config.ARGB_8888);
+        mCanvas = new Canvas(mBitmap);
+      } else {
+        mBitmap.eraseColor(Color.TRANSPARENT);
+      }
+      return mCanvas;
+    }
+
+    @Override
+    void endRecording() {}
+
+    @Override
+    void drawDisplayList(Canvas canvas, @Nullable Paint layerPaint) {
+      if (mBitmap != null) {
+        canvas.drawBitmap(mBitmap, 0, 0, layerPaint);
+      }
+    }
+
+    @Override
+    void release() {
+      mBitmap = null;
+      mCanvas = null;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.reactnativecommunity.slider.drawables;
+
+import android.view.Choreographer;
+
+import com.facebook.react.bridge.UiThreadUtil;
+
+import java.util.ArrayList;
+
+/**
+ * Redraws dirty {@link DrawableHandler}s on the next frame, each one at most once per frame
+ * no matter how many times it was invalidated in between. Shared by all sliders, UI thread only.
+ */
+class DrawScheduler implements Choreographer.FrameCallback {
+
+  private static DrawScheduler sInstance;
+
+  static DrawScheduler getInstance() {
+    UiThreadUtil.assertOnUiThread();
+    if (sInstance == null) {
+      sInstance = new DrawScheduler();
+    }
+    return sInstance;
+  }
+
+  private ArrayList<DrawableHandler> mPending = new ArrayList<>();
+  private ArrayList<DrawableHandler> mRunning = new ArrayList<>();
+  private boolean mFrameCallbackPosted = false;
+
+  private DrawScheduler() {}
+
+  void schedule(DrawableHandler handler) {
+    if (handler.mScheduled) return;
+    handler.mScheduled = true;
+    mPending.add(handler);
+    if (!mFrameCallbackPosted) {
+      Choreographer.getInstance().postFrameCallback(this);
+      mFrameCallbackPosted = true;
+    }
+  }
+
+  void cancel(DrawableHandler handler) {
+    if (!handler.mScheduled) return;
+    handler.mScheduled = false;
+    mPending.remove(handler);
+  }
+
+  @Override
+  public void doFrame(long frameTimeNanos) {
+    mFrameCallbackPosted = false;
+    // handlers scheduled while drawing are drawn on the next frame
+    ArrayList<DrawableHandler> running = mPending;
+    mPending = mRunning;
+    mRunning = running;
+    for (int i = 0; i < running.size(); i++) {
+      DrawableHandler handler = running.get(i);
+      handler.mScheduled = false;
+      handler.onFrame();
+    }
+    running.clear();
+  }
+}
@@ -1,7 +1,6 @@
 package com.reactnativecommunity.slider.drawables;
 
 import android.content.res.Resources;
-import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.PorterDuff;
 import android.graphics.Rect;
@@ -9,22 +8,83 @@ import android.graphics.drawable.Drawable;
 import android.view.View;
 import android.view.ViewTreeObserver;
 
+import androidx.annotation.IntDef;
 import androidx.annotation.Nullable;
+import androidx.core.view.ViewCompat;
 
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.uimanager.ReactStylesDiffMap;
 import com.facebook.react.uimanager.UIManagerModule;
+import com.reactnativecommunity.slider.ReactSlider;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+public abstract class DrawableHandler implements ViewTreeObserver.OnDrawListener, PropsUpdater,
+    DisplayListDrawable.Recorder, BufferedBitmapDrawable.Callback {
+
+  @IntDef({
+      RenderMode.BITMAP,
+      RenderMode.DISPLAY_LIST,
+      RenderMode.TREE
+  })
+  @Retention(RetentionPolicy.SOURCE)
+  public @interface RenderMode {
+    /** the view is rasterized into a bitmap */
+    int BITMAP = 0;
+    /** the view is recorded into a display list, falls back to {@link #BITMAP} where not supported */
+    int DISPLAY_LIST = 1;
+    /**
+     * every sub-view is drawn by a node of a {@link ReactDrawableGroup} tree updating on its own,
+     * a change to a sub-view doesn't render the whole view again
+     */
+    int TREE = 2;
+  }
+
+  public static @RenderMode int parseRenderMode(@Nullable String mode) {
+    if ("bitmap".equals(mode)) {
+      return RenderMode.BITMAP;
+    } else if ("tree".equals(mode)) {
+      return RenderMode.TREE;
+    } else {
+      return RenderMode.DISPLAY_LIST;
+    }
+  }
 
-public abstract class DrawableHandler implements ViewTreeObserver.OnDrawListener, PropsUpdater {
   private final ReactContext mContext;
+  private final ReactSlider mSlider;
   private final Drawable mOriginal;
   private View mView;
   private boolean mIsDrawing = false;
   boolean mSystemDrawable = true;
 
-  DrawableHandler(ReactContext context, Drawable original) {
-    mContext = context;
+  /**
+   * The view is rasterized into the same buffers, off the UI thread once there is something to display,
+   * {@link #mRasterDrawable} is the drawable created for it, see {@link #draw()}.
+   */
+  @Nullable private BufferedBitmapDrawable mBuffer;
+  @Nullable private Drawable mRasterDrawable;
+  /** A redraw was requested while rasterizing, see {@link #onRasterized} */
+  private boolean mRasterPending = false;
+  @Nullable private RasterCache mRasterCache;
+
+  private @RenderMode int mRenderMode = RenderMode.DISPLAY_LIST;
+  @Nullable private DisplayListDrawable mDisplayList;
+  @Nullable private ReactDrawableGroup.ReactRootDrawableGroup mDrawableTree;
+
+  /**
+   * Set by {@link DrawScheduler}
+   */
+  boolean mScheduled = false;
+  /**
+   * A redraw was skipped while the slider was detached, see {@link #onAttachedToWindow()}
+   */
+  private boolean mDrawPending = false;
+
+  DrawableHandler(ReactSlider slider, Drawable original) {
+    mContext = (ReactContext) slider.getContext();
+    mSlider = slider;
     mOriginal = original;
   }
 
@@ -32,13 +92,26 @@ public abstract class DrawableHandler implements ViewTreeObserver.OnDrawListener
     return mContext.getResources();
   }
 
-  Drawable createDrawable(Resources res, Bitmap bitmap) {
-    return new ReactDrawable(res, bitmap, getView());
+  /**
+   * Wraps the rendered view, a {@link BufferedBitmapDrawable}, a {@link DisplayListDrawable}
+   * or a {@link ReactDrawableGroup.ReactRootDrawableGroup}.
+   */
+  Drawable createDrawable(Resources res, Drawable content) {
+    return new ReactDrawable(content, getView());
   }
 
   abstract Drawable get();
   abstract void set(Drawable drawable);
-  abstract void draw(Canvas canvas, View view);
+
+  /**
+   * Maps the view to the rendered area
+   */
+  abstract void onPreDraw(Canvas canvas);
+
+  void draw(Canvas canvas, View view) {
+    onPreDraw(canvas);
+    view.draw(canvas);
+  }
 
   @Nullable
   ReactDrawable getReactDrawable() {
@@ -52,7 +125,38 @@ public abstract class DrawableHandler implements ViewTreeObserver.OnDrawListener
   @Override
   public void onDraw() {
     if (mView != null && !mIsDrawing && mView.isDirty()) {
+      if (mDrawableTree != null) {
+        // only the changed nodes are updated
+        mDrawableTree.onViewTreeDraw();
+      } else {
+        scheduleDraw();
+      }
+    }
+  }
+
+  /**
+   * Redraw on the next frame, see {@link DrawScheduler}.
+   */
+  final void scheduleDraw() {
+    DrawScheduler.getInstance().schedule(this);
+  }
+
+  /**
+   * Called by {@link DrawScheduler}, there is no point in drawing for a slider that isn't displayed.
+   */
+  final void onFrame() {
+    if (mView == null) return;
+    if (ViewCompat.isAttachedToWindow(mSlider)) {
+      mDrawPending = false;
       draw();
+    } else {
+      mDrawPending = true;
+    }
+  }
+
+  final void onAttachedToWindow() {
+    if (mDrawPending) {
+      scheduleDraw();
     }
   }
 
@@ -94,6 +198,31 @@ public abstract class DrawableHandler implements ViewTreeObserver.OnDrawListener
     if (mView != null) {
       DrawListenerRegistry.unregisterListener(mView, this);
     }
+    DrawScheduler.getInstance().cancel(this);
+    mDrawPending = false;
+    releaseBitmap();
+    mDisplayList = null;
+    mRasterDrawable = null;
+    releaseDrawableTree();
+  }
+
+  /**
+   * Rasterizations are shared with other sliders through the cache, applies to the next one rendered from scratch
+   */
+  void setRasterCache(@Nullable RasterCache cache) {
+    mRasterCache = cache;
+  }
+
+  void setRenderMode(@RenderMode int renderMode) {
+    if (mRenderMode == renderMode) return;
+    mRenderMode = renderMode;
+    // render from scratch
+    mRasterDrawable = null;
+    dispatchDraw();
+  }
+
+  private boolean useDisplayList() {
+    return mRenderMode == RenderMode.DISPLAY_LIST && DisplayListDrawable.isSupported();
   }
 
   /**
@@ -110,27 +239,145 @@ public abstract class DrawableHandler implements ViewTreeObserver.OnDrawListener
   }
 
   final void dispatchDraw() {
-    if (mView != null) draw();
+    if (mView != null) scheduleDraw();
   }
 
   private synchronized void draw() {
-    mIsDrawing = true;
     Rect bounds = getBounds();
-    Bitmap bitmap = Bitmap.createBitmap(bounds.width(), bounds.height(), Bitmap.Config.ARGB_8888);
-    Canvas canvas = new Canvas(bitmap);
+    if (bounds.isEmpty()) return;
+    mIsDrawing = true;
+    if (mRenderMode == RenderMode.TREE) {
+      drawTree(bounds);
+    } else if (useDisplayList()) {
+      drawDisplayList(bounds);
+    } else {
+      drawBitmap(bounds);
+    }
+    mIsDrawing = false;
+  }
+
+  @Override
+  public void record(Canvas canvas) {
+    if (mView == null) return;
+    int saveCount = canvas.save();
     draw(canvas, mView);
-    Drawable outDrawable = createDrawable(mContext.getResources(), bitmap);
+    canvas.restoreToCount(saveCount);
+  }
+
+  /**
+   * Records the view again into the same display list as long as its size doesn't change.
+   */
+  private void drawDisplayList(Rect bounds) {
+    boolean reuse = mDisplayList != null && mRasterDrawable == get()
+        && mDisplayList.getIntrinsicWidth() == bounds.width() && mDisplayList.getIntrinsicHeight() == bounds.height();
+    DisplayListDrawable previous = null;
+    if (!reuse) {
+      previous = mDisplayList;
+      mDisplayList = DisplayListDrawable.create(this);
+    }
+    record(mDisplayList.beginRecording(bounds.width(), bounds.height()));
+    mDisplayList.endRecording();
+    if (!reuse) {
+      setRendered(mDisplayList);
+      releaseBitmap();
+      releaseDrawableTree();
+      if (previous != null) {
+        previous.release();
+      }
+    }
+    invalidate();
+  }
+
+  /**
+   * Records the view on the UI thread and rasterizes it on the render thread of {@link BufferedBitmapDrawable}
+   * while the previous rasterization is displayed. The first one is rasterized right away, there is nothing to display.
+   */
+  private void drawBitmap(Rect bounds) {
+    if (mBuffer != null && mRasterDrawable == get()) {
+      if (mBuffer.isRasterizing()) {
+        mRasterPending = true;
+      } else {
+        record(mBuffer.beginRecording(bounds.width(), bounds.height()));
+        mBuffer.rasterize();
+      }
+      return;
+    }
+    BufferedBitmapDrawable previous = mBuffer;
+    mBuffer = new BufferedBitmapDrawable(this, mRasterCache);
+    record(mBuffer.lockCanvas(bounds.width(), bounds.height()));
+    mBuffer.unlockCanvas();
+    setRendered(mBuffer);
+    releaseDisplayList();
+    releaseDrawableTree();
+    invalidate();
+    if (previous != null) {
+      previous.release();
+    }
+  }
+
+  @Override
+  public void onRasterized(BufferedBitmapDrawable drawable, boolean resized) {
+    if (drawable != mBuffer) return;
+    if (resized && mRasterDrawable == get()) {
+      // let the slider lay out the drawable again
+      setRendered(drawable);
+    }
+    if (mRasterPending) {
+      mRasterPending = false;
+      scheduleDraw();
+    }
+  }
+
+  /**
+   * Builds the tree from scratch, from then on it updates itself, see {@link #onDraw()} and {@link #updateFromProps}.
+   */
+  private void drawTree(Rect bounds) {
+    releaseDrawableTree();
+    mDrawableTree = new ReactDrawableGroup.ReactRootDrawableGroup(this, bounds.width(), bounds.height());
+    setRendered(mDrawableTree);
+    releaseBitmap();
+    releaseDisplayList();
+    invalidate();
+  }
+
+  private void setRendered(Drawable content) {
+    Drawable outDrawable = createDrawable(mContext.getResources(), content);
     outDrawable.setState(get().getState());
     outDrawable.setLevel(get().getLevel());
     set(outDrawable);
-    invalidate();
-    mIsDrawing = false;
+    mRasterDrawable = get();
+  }
+
+  private void releaseBitmap() {
+    if (mBuffer != null) {
+      mBuffer.release();
+      mBuffer = null;
+    }
+    mRasterPending = false;
+  }
+
+  private void releaseDisplayList() {
+    if (mDisplayList != null) {
+      mDisplayList.release();
+      mDisplayList = null;
+    }
+  }
+
+  private void releaseDrawableTree() {
+    if (mDrawableTree != null) {
+      mDrawableTree.release();
+      mDrawableTree = null;
+    }
   }
 
   private void restore() {
     mOriginal.setLevel(get().getLevel());
     set(mOriginal);
     invalidate();
+    releaseBitmap();
+    releaseDisplayList();
+    releaseDrawableTree();
+    mRasterDrawable = null;
   }
 
   private void invalidate() {
@@ -147,15 +394,16 @@ public abstract class DrawableHandler implements ViewTreeObserver.OnDrawListener
 
   @Override
   public void updateFromProps(int tag, ReactStylesDiffMap props) {
-    if (props == null) return;
+    if (props == null || getView() == null) return;
     ReactDrawable drawable = getReactDrawable();
-    if (drawable == null) return;
-    if (drawable instanceof ReactDrawableGroup.ReactRootDrawableGroup) {
-      ((ReactDrawableGroup.ReactRootDrawableGroup) drawable).updateFromProps(tag, props);
-    } else if (tag == getView().getId()) {
-      drawable.updateFromProps(props);
-    } else {
-      // TODO: 06/04/2020 remove this once ReactDrawableGroup is ready -> 60fps!
+    if (tag == getView().getId()) {
+      // opacity and transform of the view itself are applied by the wrapping drawable
+      if (drawable != null) drawable.updateFromProps(props);
+      // the root node draws the rest of the view's own props, e.g. its background
+      if (mDrawableTree != null) mDrawableTree.updateFromProps(tag, props);
+    } else if (mDrawableTree != null) {
+      mDrawableTree.updateFromProps(tag, props);
+    } else if (drawable != null) {
       dispatchDraw();
     }
   }
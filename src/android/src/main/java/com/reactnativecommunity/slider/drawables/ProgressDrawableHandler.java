@@ -15,7 +15,6 @@ import android.view.View;
 
 import androidx.annotation.Nullable;
 
-import com.facebook.react.bridge.ReactContext;
 import com.reactnativecommunity.slider.R;
 import com.reactnativecommunity.slider.ReactSlider;
 
@@ -55,14 +54,14 @@ abstract class ProgressDrawableHandler extends DrawableHandler {
   }
 
   ProgressDrawableHandler(ReactSlider slider, Drawable original) {
-    super((ReactContext) slider.getContext(), original);
+    super(slider, original);
     mSlider = slider;
     mHelper = new ReactDrawable.ReactDrawableHelper(this);
   }
 
   @Override
-  Drawable createDrawable(Resources res, Bitmap bitmap) {
-    return mHelper.createDrawable(new BitmapDrawable(res, bitmap));
+  Drawable createDrawable(Resources res, Drawable content) {
+    return mHelper.createDrawable(content);
   }
 
   private static void refresh(Drawable drawable) {
@@ -87,6 +86,7 @@ abstract class ProgressDrawableHandler extends DrawableHandler {
     return new Rect(0, 0, mSlider.getWidth(), mSlider.getHeight());
   }
 
+  @Override
   void onPreDraw(Canvas canvas) {
     View view = getView();
     RectF bounds = new RectF(getBounds());
@@ -97,12 +97,6 @@ abstract class ProgressDrawableHandler extends DrawableHandler {
     canvas.scale(scale.x, scale.y);
   }
 
-  @Override
-  public void draw(Canvas canvas, View view) {
-    onPreDraw(canvas);
-    view.draw(canvas);
-  }
-
   static abstract class ProgressDrawableHelper implements DrawableHelper {
     private final boolean mIsSecondary;
 
@@ -217,32 +211,8 @@ abstract class ProgressDrawableHandler extends DrawableHandler {
     }
 
     @Override
-    Drawable createDrawable(Resources res, Bitmap bitmap) {
-      return mHelper.createDrawable(new ProgressBitmapDrawable(new BitmapDrawable(res, bitmap), mLayerID == DRAWABLE_ID2));
-      // TODO: 06/04/2020 switch to ReactDrawableGroup, requires handling view addition/removal + drawing -> 60fps
-/*
-      ReactDrawableGroup.Builder builder = new ReactDrawableGroup.Builder(this);
-      return new ReactDrawableGroup.ReactRootDrawableGroup(builder) {
-        @Override
-        public PointF getCenter() {
-          return ForegroundDrawableHandler.this.mDrawableHelper.getCenter();
-        }
-
-        @Override
-        public void transformBounds(Rect bounds) {
-          bounds.set(0, 0, bounds.width(), ForegroundDrawableHandler.this.getBarHeight(bounds));
-        }
-
-        @Override
-        void onPreDraw(Canvas canvas) {
-          ForegroundDrawableHandler.this.onPreDraw(canvas);
-          super.onPreDraw(canvas);
-          ForegroundDrawableHandler.this.mDrawableHelper.onPreDraw(canvas);
-        }
-      };
-
-
- */
+    Drawable createDrawable(Resources res, Drawable content) {
+      return mHelper.createDrawable(new ProgressBitmapDrawable(content, mLayerID == DRAWABLE_ID2));
     }
   }
 
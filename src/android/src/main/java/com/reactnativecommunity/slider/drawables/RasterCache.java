@@ -0,0 +1,173 @@
+package com.reactnativecommunity.slider.drawables;
+
+import android.graphics.Bitmap;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.LifecycleEventListener;
+import com.facebook.react.bridge.ReactContext;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Rasterized custom views shared by all sliders of a {@link ReactContext}, so identical thumbs and tracks,
+ * such as the ones of a list of sliders, are stored once.
+ *
+ * <p>Bitmaps are keyed by their pixels and ref counted by the {@link BufferedBitmapDrawable}s displaying them.
+ * Bitmaps no longer displayed are kept for reuse and evicted least recently used first once the cache holds
+ * more than its byte budget. Shared bitmaps are never drawn into again. Evicted bitmaps are dropped, not recycled,
+ * a frame recorded before the last slider let go of one may still draw it. Thread safe.
+ */
+public class RasterCache implements LifecycleEventListener {
+
+  private static class Key {
+    final int width;
+    final int height;
+    final int hash;
+
+    Key(Bitmap bitmap) {
+      width = bitmap.getWidth();
+      height = bitmap.getHeight();
+      int[] row = new int[width];
+      int hash = 1;
+      for (int y = 0; y < height; y++) {
+        bitmap.getPixels(row, 0, width, 0, y, width, 1);
+        for (int pixel : row) {
+          hash = 31 * hash + pixel;
+        }
+      }
+      this.hash = hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) return false;
+      Key key = (Key) o;
+      return width == key.width && height == key.height && hash == key.hash;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (31 * width + height) + hash;
+    }
+  }
+
+  private static class Entry {
+    final Key key;
+    final Bitmap bitmap;
+    int refCount = 0;
+
+    Entry(Key key, Bitmap bitmap) {
+      this.key = key;
+      this.bitmap = bitmap;
+    }
+  }
+
+  private final long mMaxBytes;
+  private long mBytes = 0;
+  /** in access order, least recently used first */
+  private final LinkedHashMap<Key, Entry> mEntries = new LinkedHashMap<>(16, 0.75f, true);
+  private final HashMap<Bitmap, Entry> mBitmaps = new HashMap<>();
+
+  /**
+   * @param maxBytes budget of the bitmaps no longer displayed, bitmaps in use are never evicted
+   */
+  public RasterCache(ReactContext context, long maxBytes) {
+    mMaxBytes = maxBytes;
+    context.addLifecycleEventListener(this);
+  }
+
+  /**
+   * A budget of 1/16 of the heap.
+   */
+  public RasterCache(ReactContext context) {
+    this(context, Runtime.getRuntime().maxMemory() / 16);
+  }
+
+  /**
+   * Shares a rasterized view. Call {@link #release(Bitmap)} with the returned bitmap once it isn't displayed anymore.
+   * @param rendered a bitmap that won't be drawn into anymore once shared
+   * @return the cached bitmap with the same content, or {@code rendered} itself once cached.
+   *   {@code rendered} stays the caller's if another bitmap is returned.
+   */
+  Bitmap acquire(Bitmap rendered) {
+    // hashing is the expensive part, done outside of the lock
+    Key key = new Key(rendered);
+    synchronized (this) {
+      Entry entry = mEntries.get(key);
+      if (entry != null && entry.bitmap.sameAs(rendered)) {
+        entry.refCount++;
+        return entry.bitmap;
+      }
+      if (entry == null) {
+        entry = new Entry(key, rendered);
+        entry.refCount = 1;
+        mEntries.put(key, entry);
+        mBitmaps.put(rendered, entry);
+        mBytes += rendered.getByteCount();
+        trim();
+      }
+      // else a hash collision, the bitmap isn't shared
+      return rendered;
+    }
+  }
+
+  /**
+   * @return false if the bitmap isn't cached, the caller owns it
+   */
+  synchronized boolean release(@Nullable Bitmap bitmap) {
+    Entry entry = bitmap != null ? mBitmaps.get(bitmap) : null;
+    if (entry == null) return false;
+    entry.refCount = Math.max(entry.refCount - 1, 0);
+    if (entry.refCount == 0) {
+      trim();
+    }
+    return true;
+  }
+
+  /**
+   * Evicts bitmaps no longer displayed, least recently used first, until the cache is within budget.
+   */
+  private void trim() {
+    Iterator<Entry> iterator = mEntries.values().iterator();
+    while (mBytes > mMaxBytes && iterator.hasNext()) {
+      Entry entry = iterator.next();
+      if (entry.refCount == 0) {
+        iterator.remove();
+        evict(entry);
+      }
+    }
+  }
+
+  private void evict(Entry entry) {
+    mBitmaps.remove(entry.bitmap);
+    mBytes -= entry.bitmap.getByteCount();
+  }
+
+  /**
+   * Evicts all bitmaps no longer displayed.
+   */
+  public synchronized void evictUnused() {
+    Iterator<Entry> iterator = mEntries.values().iterator();
+    while (iterator.hasNext()) {
+      Entry entry = iterator.next();
+      if (entry.refCount == 0) {
+        iterator.remove();
+        evict(entry);
+      }
+    }
+  }
+
+  @Override
+  public void onHostResume() {}
+
+  @Override
+  public void onHostPause() {}
+
+  @Override
+  public void onHostDestroy() {
+    evictUnused();
+  }
+}
@@ -1,217 +1,405 @@
 package com.reactnativecommunity.slider.drawables;
 
-import android.content.res.Resources;
-import android.graphics.Bitmap;
 import android.graphics.Canvas;
-import android.graphics.PointF;
+import android.graphics.ColorFilter;
 import android.graphics.Rect;
-import android.graphics.RectF;
-import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
+import android.os.Build;
 import android.util.SparseArray;
 import android.view.View;
 import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.facebook.react.uimanager.ReactStylesDiffMap;
 import com.facebook.react.views.view.ReactViewGroup;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Map;
-
-public class ReactDrawableGroup extends ReactDrawable {
+import java.util.Iterator;
+
+/**
+ * A node of the live drawable tree of a custom view, see {@link DrawableHandler.RenderMode#TREE}.
+ *
+ * <p>Each view of the tree is a node recording its own content only, the whole view for a leaf or just the background
+ * for a view group, and applying its own opacity and transform when drawn.
+ * A change to a sub-view updates its node without rendering the rest of the view again.
+ * Nodes follow child addition and removal and layout changes of their views.
+ * Bounds of nodes are in the coordinates of the root view, {@link ReactRootDrawableGroup} maps them to its bounds.
+ */
+public class ReactDrawableGroup extends ReactDrawable implements View.OnLayoutChangeListener, DisplayListDrawable.Recorder {
+
+  /**
+   * Props changing the content of a view group, the content of leaves is refreshed once they invalidate
+   */
+  private static final String[] CONTENT_PROPS = {
+      "backgroundColor",
+      "borderStyle",
+      "borderRadius",
+      "borderTopLeftRadius",
+      "borderTopRightRadius",
+      "borderBottomLeftRadius",
+      "borderBottomRightRadius",
+      "borderTopStartRadius",
+      "borderTopEndRadius",
+      "borderBottomStartRadius",
+      "borderBottomEndRadius",
+      "borderWidth",
+      "borderLeftWidth",
+      "borderRightWidth",
+      "borderTopWidth",
+      "borderBottomWidth",
+      "borderStartWidth",
+      "borderEndWidth",
+      "borderColor",
+      "borderLeftColor",
+      "borderRightColor",
+      "borderTopColor",
+      "borderBottomColor",
+      "borderStartColor",
+      "borderEndColor"
+  };
 
   static class ReactRootDrawableGroup extends ReactDrawableGroup implements PropsUpdater {
 
-    private final SparseArray<ReactDrawableGroup> mRegistry;
+    private final DrawableHandler mHandler;
+    private final SparseArray<ReactDrawableGroup> mRegistry = new SparseArray<>();
+    private final int mWidth;
+    private final int mHeight;
+    private boolean mLayoutDirty = true;
+
+    /**
+     * @param width, height the size the view is rendered at, same as a bitmap of the view would be
+     */
+    ReactRootDrawableGroup(DrawableHandler handler, int width, int height) {
+      super(handler.getView(), null);
+      mHandler = handler;
+      mWidth = width;
+      mHeight = height;
+      register(this);
+    }
+
+    @Override
+    ReactRootDrawableGroup getRoot() {
+      return this;
+    }
 
-    ReactRootDrawableGroup(Builder builder) {
-      super(builder);
-      mRegistry = new SparseArray<>();
-      traverseRegistration(this);
+    void register(ReactDrawableGroup node) {
+      mRegistry.put(node.mID.getId(), node);
     }
 
-    void traverseRegistration(ReactDrawableGroup reactDrawable) {
-      mRegistry.put(reactDrawable.mID.getId(), reactDrawable);
-      for (Map.Entry<View, ReactDrawableGroup> next : reactDrawable.mDrawables.entrySet()) {
-        traverseRegistration(next.getValue());
+    void unregister(ReactDrawableGroup node) {
+      if (mRegistry.get(node.mID.getId()) == node) {
+        mRegistry.remove(node.mID.getId());
       }
     }
 
+    void requestLayout() {
+      mLayoutDirty = true;
+      invalidateSelf();
+    }
+
     @Override
     public void updateFromProps(int tag, ReactStylesDiffMap props) {
-      ReactDrawableGroup d = mRegistry.get(tag);
-      if (d != null) d.updateFromProps(props);
+      ReactDrawableGroup node = mRegistry.get(tag);
+      if (node != null) node.onPropsChanged(props);
+    }
+
+    /**
+     * Called when the root view is dirty, refreshes nodes whose views changed on their own.
+     */
+    void onViewTreeDraw() {
+      if (checkForChanges()) {
+        invalidateSelf();
+      }
     }
 
-    public void transformBounds(Rect bounds) {}
+    /**
+     * Stops following the views, the recorded content stays drawable.
+     */
+    void release() {
+      drop();
+      mRegistry.clear();
+    }
 
     @Override
-    protected void onBoundsChange(Rect bounds) {
-      Rect v = new Rect();
-      mID.getDrawingRect(v);
-      transformBounds(bounds);
-      PointF scale = new PointF(bounds.width() * 1f / v.width(), bounds.height() * 1f / v.height());
-      traverseLayout(mID, scale);
-    }
-
-    void traverseLayout(View view, PointF scale) {
-      boolean firstTraversal = view == mID;
-      Drawable drawable = mRegistry.get(view.getId());
-      if (drawable == null) return;
-
-      Rect out = new Rect();
-      view.getDrawingRect(out);
-      RectF local = new RectF(0, 0, out.width() * scale.x, out.height() * scale.y);
-      if (mID instanceof ViewGroup && !firstTraversal) {
-        ((ViewGroup) mID).offsetDescendantRectToMyCoords(view, out);
-      }
-      local.offsetTo(out.left * scale.x, out.top * scale.y);
-      local.round(out);
+    public int getIntrinsicWidth() {
+      return mWidth;
+    }
 
-      if (firstTraversal) {
-        super.onBoundsChange(out);
-      } else {
-        drawable.setBounds(out);
-      }
+    @Override
+    public int getIntrinsicHeight() {
+      return mHeight;
+    }
 
-      if (view instanceof ViewGroup) {
-        ViewGroup viewGroup = ((ViewGroup) view);
-        for (int i = 0; i < viewGroup.getChildCount(); i++) {
-          traverseLayout(viewGroup.getChildAt(i), scale);
-        }
+    @Override
+    protected void onBoundsChange(Rect bounds) {
+      // bounds of the root are where the view is rendered, its nodes are laid out in view coordinates
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas) {
+      Rect bounds = getBounds();
+      if (mWidth <= 0 || mHeight <= 0 || bounds.isEmpty()) return;
+      prepare();
+      if (mLayoutDirty) {
+        mLayoutDirty = false;
+        layout(0, 0);
       }
+      int saveCount = canvas.save();
+      canvas.clipRect(bounds);
+      canvas.translate(bounds.left, bounds.top);
+      canvas.scale(bounds.width() / (float) mWidth, bounds.height() / (float) mHeight);
+      // same as when rendering the whole view
+      mHandler.onPreDraw(canvas);
+      drawNode(canvas, false);
+      canvas.restoreToCount(saveCount);
     }
   }
 
-  private HashMap<View, ReactDrawableGroup> mDrawables;
-  View mID;
-  private Drawable mBaseDrawable;
+  final View mID;
+  @Nullable private final ReactRootDrawableGroup mRoot;
+  private final DisplayListDrawable mBaseDrawable;
+  private final HashMap<View, ReactDrawableGroup> mDrawables = new HashMap<>();
+  private final ArrayList<ReactDrawableGroup> mChildren = new ArrayList<>();
+  private final Rect mLayout = new Rect();
+  private boolean mBaseDirty = true;
+  private boolean mChildrenDirty = true;
+  private int mSyncCount = 0;
+  /** not propagated to the base drawable, the opacity of a node applies to its children as well */
+  private int mAlpha;
+  @Nullable private ColorFilter mColorFilter;
+
+  ReactDrawableGroup(View view, @Nullable ReactRootDrawableGroup root) {
+    this(view, root, DisplayListDrawable.createWithFallback(null));
+  }
 
-  ReactDrawableGroup(Builder builder) {
-    super(builder.getLayers(), builder.view);
-    mID = builder.view;
-    mBaseDrawable = builder.base;
-    mDrawables = builder.children;
+  private ReactDrawableGroup(View view, @Nullable ReactRootDrawableGroup root, DisplayListDrawable base) {
+    super(new Drawable[]{base}, view);
+    mID = view;
+    mRoot = root;
+    mBaseDrawable = base;
+    mBaseDrawable.mRecorder = this;
+    mID.addOnLayoutChangeListener(this);
   }
 
-  @Override
-  protected void onBoundsChange(Rect bounds) {
-    mBaseDrawable.setBounds(bounds);
+  ReactRootDrawableGroup getRoot() {
+    return mRoot;
   }
 
+  /**
+   * Records the view without its children, they are drawn by their own nodes
+   */
   @Override
-  public void draw(@NonNull Canvas canvas) {
-    canvas.save();
-    onPreDraw(canvas);
-    drawBackground(canvas);
-    drawChildren(canvas);
-    canvas.restore();
+  public void record(Canvas canvas) {
+    if (mID instanceof ViewGroup) {
+      Drawable background = mID.getBackground();
+      if (background != null) {
+        background.setBounds(0, 0, mID.getWidth(), mID.getHeight());
+        background.draw(canvas);
+      }
+    } else {
+      mID.draw(canvas);
+    }
   }
 
-  private void drawBackground(Canvas canvas) {
-    canvas.save();
-    mBaseDrawable.draw(canvas);
-    canvas.restore();
+  void onPropsChanged(ReactStylesDiffMap props) {
+    if (this != getRoot()) {
+      // the opacity and transform of the root view are applied by the drawable wrapping the tree
+      updateFromProps(props);
+    }
+    for (String prop : CONTENT_PROPS) {
+      if (props.hasKey(prop)) {
+        mBaseDirty = true;
+        invalidateSelf();
+        break;
+      }
+    }
   }
 
-  private void drawChildren(Canvas canvas) {
+  @Override
+  public void onLayoutChange(View v, int left, int top, int right, int bottom,
+                             int oldLeft, int oldTop, int oldRight, int oldBottom) {
+    if (right - left != oldRight - oldLeft || bottom - top != oldBottom - oldTop) {
+      mBaseDirty = true;
+    }
+    getRoot().requestLayout();
+  }
+
+  /**
+   * @return true if a node of the subtree needs to be updated
+   */
+  boolean checkForChanges() {
+    boolean changed = false;
     if (mID instanceof ViewGroup) {
-      ViewGroup viewGroup = ((ViewGroup) mID);
-      for (int i = 0; i < viewGroup.getChildCount(); i++) {
-        canvas.save();
-        mDrawables.get(Builder.getChildInDrawingOrderAtIndex(viewGroup, i)).draw(canvas);
-        canvas.restore();
+      if (!mChildrenDirty && hasStructureChanged((ViewGroup) mID)) {
+        mChildrenDirty = true;
+        changed = true;
       }
+    } else if (mID.isDirty()) {
+      mBaseDirty = true;
+      changed = true;
+    }
+    for (int i = 0; i < mChildren.size(); i++) {
+      changed |= mChildren.get(i).checkForChanges();
     }
+    return changed;
   }
 
-  static class Builder {
+  private boolean hasStructureChanged(ViewGroup viewGroup) {
+    if (viewGroup.getChildCount() != mChildren.size()) return true;
+    for (int i = 0; i < mChildren.size(); i++) {
+      if (viewGroup.getChildAt(i) != mChildren.get(i).mID) return true;
+    }
+    return false;
+  }
 
-    View view;
-    Drawable base;
-    HashMap<View, ReactDrawableGroup> children;
-    DrawableHandler handler;
+  /**
+   * Brings the subtree up to date with its views, called before drawing
+   */
+  void prepare() {
+    if (mChildrenDirty) {
+      syncChildren();
+      getRoot().mLayoutDirty = true;
+    }
+    if (mBaseDirty) {
+      mBaseDirty = false;
+      record(mBaseDrawable.beginRecording(mID.getWidth(), mID.getHeight()));
+      mBaseDrawable.endRecording();
+    }
+    for (int i = 0; i < mChildren.size(); i++) {
+      mChildren.get(i).prepare();
+    }
+  }
 
-    Builder(DrawableHandler handler) {
-      this(handler.getResources(), handler.getView());
-      this.handler = handler;
+  /**
+   * Creates nodes for added child views and drops the nodes of removed ones
+   */
+  private void syncChildren() {
+    mChildrenDirty = false;
+    mChildren.clear();
+    if (!(mID instanceof ViewGroup)) return;
+    ViewGroup viewGroup = (ViewGroup) mID;
+    ReactRootDrawableGroup root = getRoot();
+    int syncCount = ++mSyncCount;
+    for (int i = 0; i < viewGroup.getChildCount(); i++) {
+      View child = viewGroup.getChildAt(i);
+      ReactDrawableGroup node = mDrawables.get(child);
+      if (node == null) {
+        node = new ReactDrawableGroup(child, root);
+        node.setColorFilter(mColorFilter);
+        node.setCallback(this);
+        mDrawables.put(child, node);
+        root.register(node);
+      }
+      node.mSyncCount = syncCount;
+      mChildren.add(node);
     }
+    Iterator<ReactDrawableGroup> iterator = mDrawables.values().iterator();
+    while (iterator.hasNext()) {
+      ReactDrawableGroup node = iterator.next();
+      if (node.mSyncCount != syncCount) {
+        iterator.remove();
+        node.drop();
+      }
+    }
+  }
 
-    Builder(Resources res, View view) {
-      this.view = view;
-      base = createBaseDrawable(res, view);
-      children = traverseChildren(res, view);
+  /**
+   * @param left, top position of the view in root view coordinates
+   */
+  void layout(int left, int top) {
+    mLayout.set(left, top, left + mID.getWidth(), top + mID.getHeight());
+    if (this == getRoot()) {
+      mBaseDrawable.setBounds(mLayout);
+    } else {
+      setBounds(mLayout);
+    }
+    for (int i = 0; i < mChildren.size(); i++) {
+      View child = mChildren.get(i).mID;
+      mChildren.get(i).layout(
+          left + child.getLeft() - mID.getScrollX(),
+          top + child.getTop() - mID.getScrollY());
     }
+  }
 
-    Drawable[] getLayers() {
-      ArrayList<Drawable> layers = new ArrayList<>();
-      layers.add(base);
-      for (Map.Entry<View, ReactDrawableGroup> next : children.entrySet()) {
-        layers.add(next.getValue());
-      }
-      return layers.toArray(new Drawable[0]);
+  void drop() {
+    mID.removeOnLayoutChangeListener(this);
+    setCallback(null);
+    if (this != getRoot()) {
+      getRoot().unregister(this);
     }
+    for (int i = 0; i < mChildren.size(); i++) {
+      mChildren.get(i).drop();
+    }
+    mChildren.clear();
+    mDrawables.clear();
+  }
 
-    private ReactDrawableGroup get(boolean isRoot) {
-      if (isRoot) {
-        return new ReactRootDrawableGroup(this);
-      } else {
-        return new ReactDrawableGroup(this);
-      }
+  @Override
+  protected void onBoundsChange(Rect bounds) {
+    if (mBaseDrawable != null) mBaseDrawable.setBounds(bounds);
+  }
+
+  @Override
+  public void setAlpha(int alpha) {
+    mAlpha = alpha;
+    invalidateSelf();
+  }
+
+  @Override
+  public int getAlpha() {
+    return mAlpha;
+  }
+
+  @Override
+  public void setColorFilter(@Nullable ColorFilter colorFilter) {
+    mColorFilter = colorFilter;
+    mBaseDrawable.setColorFilter(colorFilter);
+    for (ReactDrawableGroup node : mDrawables.values()) {
+      node.setColorFilter(colorFilter);
     }
+  }
 
-    private static HashMap<View, ReactDrawableGroup> traverseChildren(Resources res, View view) {
-      HashMap<View, ReactDrawableGroup> drawables = new HashMap<>();
-      if (view instanceof ViewGroup) {
-        ViewGroup viewGroup = (ViewGroup) view;
-        View child;
-        for (int i = 0; i < viewGroup.getChildCount(); i++) {
-          child = viewGroup.getChildAt(i);
-          drawables.put(child, new Builder(res, child).get(false));
-        }
-      }
-      return drawables;
+  @Override
+  public void draw(@NonNull Canvas canvas) {
+    drawNode(canvas, true);
+  }
+
+  void drawNode(Canvas canvas, boolean transform) {
+    if (mAlpha == 0 || mID.getVisibility() != View.VISIBLE) return;
+    int saveCount = canvas.save();
+    if (transform) {
+      onPreDraw(canvas);
     }
-    
-    private static View getChildInDrawingOrderAtIndex(ViewGroup parent, int index) {
-      if (parent instanceof ReactViewGroup) {
-        return parent.getChildAt(((ReactViewGroup) parent).getZIndexMappedChildIndex(index));
-      }
-      return parent.getChildAt(index);
-    }
-
-    private static Drawable createBaseDrawable(Resources res, View view) {
-      Rect src = new Rect();
-      view.getDrawingRect(src);
-      Bitmap bitmap = Bitmap.createBitmap(src.width(), src.height(), Bitmap.Config.ARGB_8888);
-      Canvas canvas = new Canvas(bitmap);
-      drawBareView(canvas, view);
-      return new BitmapDrawable(res, bitmap);
-    }
-
-    private static void drawBareView(Canvas canvas, View view) {
-      if (view instanceof ViewGroup) {
-        ArrayList<Integer> visibility = new ArrayList<>();
-        View child;
-        ViewGroup viewGroup = (ViewGroup) view;
-        for (int i = 0; i < viewGroup.getChildCount(); i++) {
-          child = viewGroup.getChildAt(i);
-          visibility.add(child.getVisibility());
-          child.setVisibility(View.INVISIBLE);
-        }
-        view.draw(canvas);
-        for (int i = 0; i < viewGroup.getChildCount(); i++) {
-          child = viewGroup.getChildAt(i);
-          child.setVisibility(visibility.get(i));
-        }
+    if (mAlpha < 255) {
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+        canvas.saveLayerAlpha(null, mAlpha);
       } else {
-        view.draw(canvas);
+        canvas.saveLayerAlpha(null, mAlpha, Canvas.ALL_SAVE_FLAG);
       }
     }
+    mBaseDrawable.draw(canvas);
+    drawChildren(canvas);
+    canvas.restoreToCount(saveCount);
+  }
 
+  private void drawChildren(Canvas canvas) {
+    if (mID instanceof ViewGroup) {
+      ViewGroup viewGroup = ((ViewGroup) mID);
+      for (int i = 0; i < viewGroup.getChildCount(); i++) {
+        // children added since the last sync are drawn once their nodes exist
+        ReactDrawableGroup node = mDrawables.get(getChildInDrawingOrderAtIndex(viewGroup, i));
+        if (node != null) node.draw(canvas);
+      }
+    }
   }
 
+  private static View getChildInDrawingOrderAtIndex(ViewGroup parent, int index) {
+    if (parent instanceof ReactViewGroup) {
+      return parent.getChildAt(((ReactViewGroup) parent).getZIndexMappedChildIndex(index));
+    }
+    return parent.getChildAt(index);
+  }
 }
@@ -3,6 +3,7 @@ package com.reactnativecommunity.slider.drawables;
 import android.content.res.ColorStateList;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.drawable.ColorDrawable;
 import android.graphics.drawable.Drawable;
@@ -47,6 +48,7 @@ public class ReactSliderDrawableHelper {
   private final ProgressDrawableHandler.ForegroundDrawableHandler mMaximumTrackDrawableHandler;
   private final ProgressDrawableHandler.BackgroundDrawableHandler mBackgroundDrawableHandler;
   private final ThumbDrawableHandler mThumbDrawableHandler;
+  private final TickMarksLayer mTickMarksLayer;
 
   public ReactSliderDrawableHelper(ReactSlider slider) {
     mSlider = slider;
@@ -56,6 +58,7 @@ public class ReactSliderDrawableHelper {
     mMaximumTrackDrawableHandler = new ProgressDrawableHandler.MaximumTrackHandler(mSlider);
     mBackgroundDrawableHandler = new ProgressDrawableHandler.BackgroundDrawableHandler(mSlider);
     mThumbDrawableHandler = new ThumbDrawableHandler(mSlider);
+    mTickMarksLayer = new TickMarksLayer(mSlider);
   }
 
   /**
@@ -93,10 +96,61 @@ public class ReactSliderDrawableHelper {
     }
   }
 
+  public void setRenderMode(@DrawableHandler.RenderMode int renderMode) {
+    DrawableHandler[] handlers = new DrawableHandler[]{
+        mBackgroundDrawableHandler,
+        mMinimumTrackDrawableHandler,
+        mMaximumTrackDrawableHandler,
+        mThumbDrawableHandler};
+    for (DrawableHandler handler: handlers) {
+      handler.setRenderMode(renderMode);
+    }
+  }
+
+  public void setRasterCache(RasterCache cache) {
+    DrawableHandler[] handlers = new DrawableHandler[]{
+        mBackgroundDrawableHandler,
+        mMinimumTrackDrawableHandler,
+        mMaximumTrackDrawableHandler,
+        mThumbDrawableHandler};
+    for (DrawableHandler handler: handlers) {
+      handler.setRasterCache(cache);
+    }
+  }
+
+  /**
+   * Redraws custom views that changed while the slider was detached
+   */
+  public void onAttachedToWindow() {
+    DrawableHandler[] handlers = new DrawableHandler[]{
+        mBackgroundDrawableHandler,
+        mMinimumTrackDrawableHandler,
+        mMaximumTrackDrawableHandler,
+        mThumbDrawableHandler};
+    for (DrawableHandler handler: handlers) {
+      handler.onAttachedToWindow();
+    }
+  }
+
   public void setThumbImage(final String uri) {
     mThumbDrawableHandler.setThumbImage(uri);
   }
 
+  public void setTickMarks(boolean enabled) {
+    mTickMarksLayer.setEnabled(enabled);
+  }
+
+  public void setTickMarkTintColor(Integer color) {
+    mTickMarksLayer.setColor(color);
+  }
+
+  /**
+   * Draws the tick marks layer, call before the slider draws its progress layers
+   */
+  public void drawTickMarks(Canvas canvas) {
+    mTickMarksLayer.draw(canvas);
+  }
+
   public DrawableHandler getDrawableHandler(@SliderDrawable int type) {
     switch (type) {
       case SliderDrawable.BACKGROUND:
@@ -116,6 +170,24 @@ public class ReactSliderDrawableHelper {
     mThumbDrawableHandler.onTouchEvent(event);
   }
 
+  /**
+   * Draws the thumb as if the progress was the given one, used by the range mode for thumbs other than the active one.
+   * Replicates the positioning done by {@link android.widget.AbsSeekBar}.
+   */
+  public void drawThumbAt(Canvas canvas, int progress) {
+    Drawable thumb = mSlider.getThumb();
+    int max = mSlider.getMax();
+    if (thumb == null || max <= 0) return;
+    int available = mSlider.getWidth() - mSlider.getPaddingLeft() - mSlider.getPaddingRight()
+        - thumb.getIntrinsicWidth() + mSlider.getThumbOffset() * 2;
+    int left = (int) (available * (progress / (float) max) + 0.5f);
+    int activeLeft = (int) (available * (mSlider.getProgress() / (float) max) + 0.5f);
+    canvas.save();
+    canvas.translate(mSlider.getPaddingLeft() - mSlider.getThumbOffset() + left - activeLeft, mSlider.getPaddingTop());
+    thumb.draw(canvas);
+    canvas.restore();
+  }
+
   public void receiveFromInformant(int informantID, int recruiterID, ReactStylesDiffMap context) {
     DrawableHandler[] handlers = new DrawableHandler[]{
         mBackgroundDrawableHandler,
@@ -126,7 +198,7 @@ public class ReactSliderDrawableHelper {
       int id = handler.getView() != null ? handler.getView().getId() : View.NO_ID;
       if (id != View.NO_ID) {
         if (id == informantID) {
-          handler.updateFromProps(0, context);
+          handler.updateFromProps(informantID, context);
           //break;
         }
         if (id == recruiterID) {
@@ -143,6 +215,7 @@ public class ReactSliderDrawableHelper {
     mMaximumTrackDrawableHandler.tearDown();
     mBackgroundDrawableHandler.tearDown();
     mThumbDrawableHandler.tearDown();
+    mTickMarksLayer.release();
   }
 
   static Bitmap getBitmap(final View view, final String uri) {
@@ -3,7 +3,6 @@ package com.reactnativecommunity.slider.drawables;
 import android.animation.AnimatorSet;
 import android.animation.ObjectAnimator;
 import android.content.res.Resources;
-import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
@@ -13,6 +12,7 @@ import android.graphics.Rect;
 import android.graphics.RectF;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
+import android.graphics.drawable.LayerDrawable;
 import android.os.Build;
 import android.util.Property;
 import android.view.MotionEvent;
@@ -21,7 +21,6 @@ import android.view.animation.AccelerateDecelerateInterpolator;
 
 import androidx.annotation.Nullable;
 
-import com.facebook.react.bridge.ReactContext;
 import com.reactnativecommunity.slider.ReactSlider;
 import com.reactnativecommunity.slider.ReactSliderManager;
 
@@ -39,7 +38,7 @@ public class ThumbDrawableHandler extends DrawableHandler {
   private final ThumbDrawableHelper mDrawableHelper;
 
   ThumbDrawableHandler(ReactSlider slider) {
-    super((ReactContext) slider.getContext(), slider.getThumb());
+    super(slider, slider.getThumb());
     mSlider = slider;
     mHelper = new ReactDrawable.ReactDrawableHelper(this);
     mDrawableHelper = new ThumbDrawableHelper(mSlider.isInverted()) {
@@ -52,32 +51,8 @@ public class ThumbDrawableHandler extends DrawableHandler {
   }
 
   @Override
-  Drawable createDrawable(Resources res, Bitmap bitmap) {
-    return mHelper.createDrawable(createFromBitmap(bitmap));
-/*
-    ReactDrawableGroup.Builder builder = new ReactDrawableGroup.Builder(this);
-    return new ReactDrawableGroup.ReactRootDrawableGroup(builder) {
-      @Override
-      public PointF getCenter() {
-        Rect bounds = ThumbDrawableHandler.this.getBounds();
-        return new PointF(bounds.centerX(), bounds.centerY());
-      }
-
-      @Override
-      public void transformBounds(Rect bounds) {
-        //bounds.set(0, 0, bounds.width(), ForegroundDrawableHandler.this.getBarHeight(bounds));
-      }
-
-      @Override
-      void onPreDraw(Canvas canvas) {
-        ThumbDrawableHandler.this.onPreDraw(canvas);
-        super.onPreDraw(canvas);
-        //ThumbDrawableHandler.this.mDrawableHelper.onPreDraw(canvas);
-      }
-    };
-
-
- */
+  Drawable createDrawable(Resources res, Drawable content) {
+    return mHelper.createDrawable(createThumbDrawable(content));
   }
 
   @Override
@@ -107,7 +82,7 @@ public class ThumbDrawableHandler extends DrawableHandler {
 
   void setThumbImage(final String uri) {
     if (uri != null) {
-      BitmapDrawable drawable = createFromBitmap(getBitmap(mSlider, uri));
+      Drawable drawable = createThumbDrawable(new BitmapDrawable(mSlider.getResources(), getBitmap(mSlider, uri)));
       mSystemDrawable = false;
       set(drawable);
       // Enable alpha channel for the thumbImage
@@ -140,6 +115,7 @@ public class ThumbDrawableHandler extends DrawableHandler {
     }
   }
 
+  @Override
   void onPreDraw(Canvas canvas) {
     RectF bounds = new RectF(getBounds());
     View view = getView();
@@ -150,9 +126,9 @@ public class ThumbDrawableHandler extends DrawableHandler {
     // clip circle
     Path clipper = new Path();
     clipper.addCircle(
-        canvas.getWidth() / 2,
-        canvas.getHeight() / 2,
-        Math.min(canvas.getWidth(), canvas.getHeight()) / 2,
+        bounds.width() / 2,
+        bounds.height() / 2,
+        Math.min(bounds.width(), bounds.height()) / 2,
         Path.Direction.CW);
     canvas.clipPath(clipper);
     // transform
@@ -164,12 +140,6 @@ public class ThumbDrawableHandler extends DrawableHandler {
     canvas.drawPaint(mPaint);
   }
 
-  @Override
-  void draw(Canvas canvas, View view) {
-    onPreDraw(canvas);
-    view.draw(canvas);
-  }
-
   @Override
   void setInverted(boolean inverted) {
     mDrawableHelper.setInverted(inverted);
@@ -184,8 +154,8 @@ public class ThumbDrawableHandler extends DrawableHandler {
     }
   }
 
-  private BitmapDrawable createFromBitmap(Bitmap bitmap) {
-    return new BitmapDrawable(mSlider.getResources(), bitmap) {
+  private Drawable createThumbDrawable(Drawable content) {
+    return new LayerDrawable(new Drawable[]{content}) {
       @Override
       public void draw(Canvas canvas) {
         mDrawableHelper.onPreDraw(canvas);
@@ -0,0 +1,93 @@
+package com.reactnativecommunity.slider.drawables;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+
+import androidx.annotation.Nullable;
+
+import com.reactnativecommunity.slider.ReactSlider;
+
+/**
+ * Draws a mark for each step of the slider beneath the progress layers.
+ * The marks are rendered once into a bitmap that is reused until the size of the slider, the number of steps
+ * or the color change, so drawing them costs a single bitmap draw per frame regardless of the number of steps.
+ */
+class TickMarksLayer {
+
+  private static final int DEFAULT_COLOR = Color.GRAY;
+  private static final float RADIUS_DP = 2;
+  /**
+   * Marks closer than this (in radii) would merge into a line, they are not drawn at all.
+   */
+  private static final float MIN_SPACING = 3;
+
+  private final ReactSlider mSlider;
+  private final Paint mPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+  private final float mRadius;
+  private boolean mEnabled = false;
+
+  private @Nullable Bitmap mBitmap;
+  private int mWidth = -1;
+  private int mCount = -1;
+  private boolean mDirty = true;
+
+  TickMarksLayer(ReactSlider slider) {
+    mSlider = slider;
+    mRadius = RADIUS_DP * slider.getResources().getDisplayMetrics().density;
+    mPaint.setColor(DEFAULT_COLOR);
+  }
+
+  void setEnabled(boolean enabled) {
+    mEnabled = enabled;
+    if (!enabled) {
+      release();
+    }
+    mSlider.invalidate();
+  }
+
+  void setColor(@Nullable Integer color) {
+    mPaint.setColor(color == null ? DEFAULT_COLOR : color);
+    mDirty = true;
+    mSlider.invalidate();
+  }
+
+  void draw(Canvas canvas) {
+    if (!mEnabled) return;
+    int count = mSlider.getMax();
+    int width = mSlider.getWidth();
+    float trackWidth = width - mSlider.getPaddingLeft() - mSlider.getPaddingRight();
+    if (count < 1 || trackWidth <= 0 || trackWidth / count < mRadius * MIN_SPACING) return;
+    if (mDirty || mBitmap == null || width != mWidth || count != mCount) {
+      render(width, count, trackWidth);
+    }
+    canvas.drawBitmap(mBitmap, 0, mSlider.getHeight() / 2f - mRadius, null);
+  }
+
+  /**
+   * Drops the bitmap without recycling it, a display list recorded before may still draw it.
+   */
+  void release() {
+    mBitmap = null;
+  }
+
+  private void render(int width, int count, float trackWidth) {
+    int height = (int) Math.ceil(mRadius * 2);
+    if (mBitmap == null || mBitmap.getWidth() != width || mBitmap.getHeight() != height) {
+      mBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+    } else {
+      mBitmap.eraseColor(Color.TRANSPARENT);
+    }
+    Canvas canvas = new Canvas(mBitmap);
+    float spacing = trackWidth / count;
+    float x = mSlider.getPaddingLeft();
+    for (int i = 0; i <= count; i++) {
+      canvas.drawCircle(x, mRadius, mRadius, mPaint);
+      x += spacing;
+    }
+    mWidth = width;
+    mCount = count;
+    mDirty = false;
+  }
+}
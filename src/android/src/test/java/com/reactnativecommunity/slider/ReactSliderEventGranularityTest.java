@@ -0,0 +1,99 @@
+package com.reactnativecommunity.slider;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReactSliderEventGranularityTest {
+
+  private ReactSlider mSlider;
+  private ReactSliderEventGranularity mGranularity;
+
+  @Before
+  public void setUp() {
+    mSlider = mock(ReactSlider.class);
+    mGranularity = new ReactSliderEventGranularity(mSlider);
+  }
+
+  @Test
+  public void parseMode() {
+    assertEquals(ReactSliderEventGranularity.Mode.VALUE, ReactSliderEventGranularity.parseMode(null));
+    assertEquals(ReactSliderEventGranularity.Mode.STEP, ReactSliderEventGranularity.parseMode("step"));
+    assertEquals(ReactSliderEventGranularity.Mode.DELTA, ReactSliderEventGranularity.parseMode("delta"));
+    assertEquals(ReactSliderEventGranularity.Mode.PIXEL, ReactSliderEventGranularity.parseMode("pixel"));
+    assertEquals(ReactSliderEventGranularity.Mode.VALUE, ReactSliderEventGranularity.parseMode("unknown"));
+  }
+
+  @Test
+  public void valueAcceptsEveryChange() {
+    mGranularity.reset(0, 0);
+    assertTrue(mGranularity.accept(1, 0.01, true));
+    assertFalse(mGranularity.hasSuppressedChanges(2));
+  }
+
+  @Test
+  public void changesNotMadeByTheUserAreAlwaysAccepted() {
+    mGranularity.setMode(ReactSliderEventGranularity.Mode.DELTA);
+    mGranularity.setThreshold(10);
+    mGranularity.reset(0, 0);
+    assertTrue(mGranularity.accept(1, 1, false));
+  }
+
+  @Test
+  public void stepAcceptsStepIndexChanges() {
+    // steps of 0.25
+    when(mSlider.toStepIndex(0.1)).thenReturn(0);
+    when(mSlider.toStepIndex(0.2)).thenReturn(1);
+    when(mSlider.toStepIndex(0.3)).thenReturn(1);
+    when(mSlider.toStepIndex(0.5)).thenReturn(2);
+    mGranularity.setMode(ReactSliderEventGranularity.Mode.STEP);
+    mGranularity.reset(0, 0);
+    assertFalse(mGranularity.accept(1, 0.1, true));
+    assertTrue(mGranularity.hasSuppressedChanges(1));
+    assertTrue(mGranularity.accept(2, 0.2, true));
+    assertFalse(mGranularity.accept(3, 0.3, true));
+    assertTrue(mGranularity.accept(5, 0.5, true));
+  }
+
+  @Test
+  public void switchingToStepMeasuresFromTheLastAcceptedValue() {
+    when(mSlider.toStepIndex(0.5)).thenReturn(2);
+    when(mSlider.toStepIndex(0.6)).thenReturn(2);
+    mGranularity.reset(50, 0.5);
+    mGranularity.setMode(ReactSliderEventGranularity.Mode.STEP);
+    assertFalse(mGranularity.accept(60, 0.6, true));
+  }
+
+  @Test
+  public void deltaAcceptsChangesFromTheLastAcceptedValue() {
+    mGranularity.setMode(ReactSliderEventGranularity.Mode.DELTA);
+    mGranularity.setThreshold(-0.5);
+    mGranularity.reset(0, 0);
+    assertFalse(mGranularity.accept(1, 0.3, true));
+    assertFalse(mGranularity.accept(2, 0.5, true));
+    assertTrue(mGranularity.accept(3, 0.6, true));
+    assertFalse(mGranularity.accept(2, 0.2, true));
+    assertTrue(mGranularity.accept(0, 0, true));
+    assertFalse(mGranularity.hasSuppressedChanges(0));
+  }
+
+  @Test
+  public void pixelAcceptsChangesOfTheThumbPosition() {
+    when(mSlider.getMax()).thenReturn(100);
+    when(mSlider.getWidth()).thenReturn(220);
+    when(mSlider.getPaddingLeft()).thenReturn(10);
+    when(mSlider.getPaddingRight()).thenReturn(10);
+    mGranularity.setMode(ReactSliderEventGranularity.Mode.PIXEL);
+    mGranularity.setThreshold(8);
+    mGranularity.reset(50, 0.5);
+    // 2 pixels per progress step
+    assertFalse(mGranularity.accept(54, 0.54, true));
+    assertTrue(mGranularity.accept(55, 0.55, true));
+    assertFalse(mGranularity.accept(51, 0.51, true));
+  }
+}
@@ -0,0 +1,114 @@
+package com.reactnativecommunity.slider;
+
+import android.view.MotionEvent;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReactSliderRangeTest {
+
+  private static final double DELTA = 1e-9;
+
+  private ReactSlider mSlider;
+  private ReactSliderRange mRange;
+
+  @Before
+  public void setUp() {
+    // positions are 10 + progress
+    mSlider = mock(ReactSlider.class);
+    when(mSlider.getMax()).thenReturn(100);
+    when(mSlider.getWidth()).thenReturn(120);
+    when(mSlider.getPaddingLeft()).thenReturn(10);
+    when(mSlider.getPaddingRight()).thenReturn(10);
+    for (int progress = 0; progress <= 100; progress++) {
+      when(mSlider.toSeekBarProgress(progress / 100d)).thenReturn(progress);
+      when(mSlider.toRealProgress(progress)).thenReturn(progress / 100d);
+    }
+    mRange = new ReactSliderRange(mSlider);
+  }
+
+  private static MotionEvent touch(int action, float x) {
+    MotionEvent event = mock(MotionEvent.class);
+    when(event.getActionMasked()).thenReturn(action);
+    when(event.getX()).thenReturn(x);
+    return event;
+  }
+
+  @Test
+  public void disabledWithoutValues() {
+    mRange.setValues(null);
+    mRange.update();
+    assertFalse(mRange.isEnabled());
+    assertEquals(0, mRange.getThumbCount());
+  }
+
+  @Test
+  public void valuesAreSorted() {
+    mRange.setValues(new double[]{0.8, 0.2});
+    mRange.update();
+    assertTrue(mRange.isEnabled());
+    assertEquals(2, mRange.getThumbCount());
+    when(mSlider.getProgress()).thenReturn(20);
+    assertArrayEquals(new double[]{0.2, 0.8}, mRange.getValues(), DELTA);
+  }
+
+  @Test
+  public void activeThumbIsKeptBelowItsNeighbour() {
+    mRange.setValues(new double[]{0.2, 0.8});
+    mRange.update();
+    when(mSlider.getProgress()).thenReturn(90);
+    assertArrayEquals(new double[]{0.8, 0.8}, mRange.getValues(), DELTA);
+    mRange.onTouchEventHandled();
+    verify(mSlider).setProgressSilently(80);
+  }
+
+  @Test
+  public void touchActivatesTheNearestThumb() {
+    mRange.setValues(new double[]{0.2, 0.8});
+    mRange.update();
+    when(mSlider.getProgress()).thenReturn(20);
+    MotionEvent down = touch(MotionEvent.ACTION_DOWN, 85);
+    assertEquals(0, mRange.onTouchEvent(down), DELTA);
+    assertEquals(1, mRange.getActiveThumb());
+    verify(mSlider).setProgressSilently(80);
+  }
+
+  @Test
+  public void touchIsKeptAboveTheLowerNeighbour() {
+    mRange.setValues(new double[]{0.2, 0.8});
+    mRange.update();
+    when(mSlider.getProgress()).thenReturn(20);
+    mRange.onTouchEvent(touch(MotionEvent.ACTION_DOWN, 85));
+    MotionEvent move = touch(MotionEvent.ACTION_MOVE, 20);
+    assertEquals(10, mRange.onTouchEvent(move), DELTA);
+    verify(move).offsetLocation(10, 0);
+  }
+
+  @Test
+  public void stackedThumbsSeparateTowardsTheTouch() {
+    mRange.setValues(new double[]{0.5, 0.5});
+    mRange.update();
+    when(mSlider.getProgress()).thenReturn(50);
+    mRange.onTouchEvent(touch(MotionEvent.ACTION_DOWN, 70));
+    assertEquals(1, mRange.getActiveThumb());
+  }
+
+  @Test
+  public void touchOnTheActiveThumbKeepsIt() {
+    mRange.setValues(new double[]{0.2, 0.8});
+    mRange.update();
+    when(mSlider.getProgress()).thenReturn(20);
+    mRange.onTouchEvent(touch(MotionEvent.ACTION_DOWN, 25));
+    assertEquals(0, mRange.getActiveThumb());
+    verify(mSlider, never()).setProgressSilently(20);
+  }
+}
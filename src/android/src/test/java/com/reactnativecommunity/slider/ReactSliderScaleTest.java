@@ -0,0 +1,79 @@
+package com.reactnativecommunity.slider;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ReactSliderScaleTest {
+
+  private static final double DELTA = 1e-9;
+
+  @Test
+  public void parseType() {
+    assertEquals(ReactSliderScale.Type.LINEAR, ReactSliderScale.parseType(null));
+    assertEquals(ReactSliderScale.Type.LINEAR, ReactSliderScale.parseType("linear"));
+    assertEquals(ReactSliderScale.Type.LOGARITHMIC, ReactSliderScale.parseType("logarithmic"));
+    assertEquals(ReactSliderScale.Type.POWER, ReactSliderScale.parseType("power"));
+    assertEquals(ReactSliderScale.Type.LINEAR, ReactSliderScale.parseType("unknown"));
+  }
+
+  @Test
+  public void linear() {
+    ReactSliderScale scale = new ReactSliderScale();
+    assertEquals(-1, scale.toValue(0, -1, 3), DELTA);
+    assertEquals(1, scale.toValue(0.5, -1, 3), DELTA);
+    assertEquals(3, scale.toValue(1, -1, 3), DELTA);
+    assertEquals(0.25, scale.toFraction(0, -1, 3), DELTA);
+  }
+
+  @Test
+  public void logarithmic() {
+    ReactSliderScale scale = new ReactSliderScale();
+    scale.setType(ReactSliderScale.Type.LOGARITHMIC);
+    assertFalse(scale.isLinear(1, 1000));
+    assertEquals(1, scale.toValue(0, 1, 1000), DELTA);
+    assertEquals(10, scale.toValue(1 / 3d, 1, 1000), DELTA);
+    assertEquals(1000, scale.toValue(1, 1, 1000), DELTA);
+    assertEquals(2 / 3d, scale.toFraction(100, 1, 1000), DELTA);
+  }
+
+  @Test
+  public void logarithmicFallsBackToLinearAcrossZero() {
+    ReactSliderScale scale = new ReactSliderScale();
+    scale.setType(ReactSliderScale.Type.LOGARITHMIC);
+    assertTrue(scale.isLinear(0, 100));
+    assertTrue(scale.isLinear(-1, 100));
+    assertEquals(50, scale.toValue(0.5, 0, 100), DELTA);
+  }
+
+  @Test
+  public void power() {
+    ReactSliderScale scale = new ReactSliderScale();
+    scale.setType(ReactSliderScale.Type.POWER);
+    scale.setExponent(2);
+    assertEquals(25, scale.toValue(0.5, 0, 100), DELTA);
+    assertEquals(0.5, scale.toFraction(25, 0, 100), DELTA);
+    scale.setExponent(1);
+    assertTrue(scale.isLinear(0, 100));
+  }
+
+  @Test
+  public void roundTrip() {
+    ReactSliderScale scale = new ReactSliderScale();
+    for (@ReactSliderScale.Type int type : new int[]{
+        ReactSliderScale.Type.LINEAR, ReactSliderScale.Type.LOGARITHMIC, ReactSliderScale.Type.POWER}) {
+      scale.setType(type);
+      for (double fraction = 0; fraction <= 1; fraction += 0.125) {
+        assertEquals(fraction, scale.toFraction(scale.toValue(fraction, 2, 512), 2, 512), DELTA);
+      }
+    }
+  }
+
+  @Test
+  public void emptyRange() {
+    ReactSliderScale scale = new ReactSliderScale();
+    assertEquals(0, scale.toFraction(5, 5, 5), DELTA);
+  }
+}
@@ -0,0 +1,110 @@
+package com.reactnativecommunity.slider;
+
+import android.content.Context;
+import android.view.MotionEvent;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReactSliderTouchPredictorTest {
+
+  /** one frame at the default refresh rate */
+  private static final float FRAME_MS = 1000 / 60f;
+
+  private ReactSlider mSlider;
+  private ReactSliderTouchPredictor mPredictor;
+
+  @Before
+  public void setUp() {
+    mSlider = mock(ReactSlider.class);
+    when(mSlider.getContext()).thenReturn(mock(Context.class));
+    mPredictor = new ReactSliderTouchPredictor(mSlider, mock(ReactSliderRange.class));
+    mPredictor.setEnabled(true);
+  }
+
+  private static MotionEvent touch(int action, long time, float x) {
+    MotionEvent event = mock(MotionEvent.class);
+    when(event.getActionMasked()).thenReturn(action);
+    when(event.getEventTime()).thenReturn(time);
+    when(event.getX()).thenReturn(x);
+    return event;
+  }
+
+  @Test
+  public void disabled() {
+    mPredictor.setEnabled(false);
+    mPredictor.onTouchEvent(touch(MotionEvent.ACTION_DOWN, 0, 0));
+    assertEquals(0, mPredictor.onTouchEvent(touch(MotionEvent.ACTION_MOVE, 40, 40)), 0);
+    assertFalse(mPredictor.isPredicting());
+  }
+
+  @Test
+  public void extrapolatesOneFrameAhead() {
+    when(mSlider.progressAt(40)).thenReturn(4);
+    mPredictor.onTouchEvent(touch(MotionEvent.ACTION_DOWN, 0, 0));
+    MotionEvent move = touch(MotionEvent.ACTION_MOVE, 40, 40);
+    float offset = mPredictor.onTouchEvent(move);
+    assertEquals(FRAME_MS, offset, 1e-3);
+    verify(move).offsetLocation(offset, 0);
+    assertTrue(mPredictor.isPredicting());
+    assertEquals(4, mPredictor.getRealProgress());
+    mPredictor.onTouchEventHandled();
+    assertFalse(mPredictor.isPredicting());
+  }
+
+  @Test
+  public void predictsNoFurtherThanTheDistanceMoved() {
+    mPredictor.onTouchEvent(touch(MotionEvent.ACTION_DOWN, 0, 0));
+    assertEquals(10, mPredictor.onTouchEvent(touch(MotionEvent.ACTION_MOVE, 10, 10)), 0);
+  }
+
+  @Test
+  public void ignoresOldSamples() {
+    mPredictor.onTouchEvent(touch(MotionEvent.ACTION_DOWN, 0, 0));
+    assertEquals(0, mPredictor.onTouchEvent(touch(MotionEvent.ACTION_MOVE, 100, 100)), 0);
+    assertFalse(mPredictor.isPredicting());
+  }
+
+  @Test
+  public void releaseIsNotPredicted() {
+    mPredictor.onTouchEvent(touch(MotionEvent.ACTION_DOWN, 0, 0));
+    mPredictor.onTouchEvent(touch(MotionEvent.ACTION_MOVE, 20, 20));
+    mPredictor.onTouchEventHandled();
+    assertEquals(0, mPredictor.onTouchEvent(touch(MotionEvent.ACTION_UP, 40, 40)), 0);
+    assertFalse(mPredictor.isPredicting());
+  }
+
+  @Test
+  public void reportsChangesOfTheTouchedProgressOnly() {
+    when(mSlider.progressAt(anyFloat())).thenReturn(4);
+    mPredictor.onTouchEvent(touch(MotionEvent.ACTION_DOWN, 0, 0));
+    mPredictor.onProgressReported(0);
+    mPredictor.onTouchEvent(touch(MotionEvent.ACTION_MOVE, 40, 40));
+    mPredictor.onTouchEventHandled();
+    verify(mSlider, times(1)).notifyProgressChanged();
+    mPredictor.onProgressReported(4);
+    mPredictor.onTouchEvent(touch(MotionEvent.ACTION_MOVE, 48, 48));
+    mPredictor.onTouchEventHandled();
+    verify(mSlider, times(1)).notifyProgressChanged();
+  }
+
+  @Test
+  public void doesNotReportProgressAlreadyReported() {
+    when(mSlider.progressAt(anyFloat())).thenReturn(0);
+    mPredictor.onTouchEvent(touch(MotionEvent.ACTION_DOWN, 0, 0));
+    mPredictor.onProgressReported(0);
+    mPredictor.onTouchEvent(touch(MotionEvent.ACTION_MOVE, 40, 40));
+    mPredictor.onTouchEventHandled();
+    verify(mSlider, never()).notifyProgressChanged();
+  }
+}
@@ -22,6 +22,11 @@ type Event = SyntheticEvent<
   $ReadOnly<{|
     value: number,
     fromUser?: boolean,
+    values?: $ReadOnlyArray<number>,
+    activeThumb?: number,
+    samples?: $ReadOnlyArray<number>,
+    touchTimestamp?: number,
+    eventCount?: number,
   |}>,
 >;
 
@@ -29,6 +34,11 @@ type NativeProps = $ReadOnly<{|
   ...ViewProps,
   disabled?: ?boolean,
   enabled?: ?boolean,
+  eventGranularity?: ?('value' | 'step' | 'delta' | 'pixel'),
+  eventGranularityThreshold?: ?number,
+  eventThrottleMs?: ?number,
+  fling?: ?boolean,
+  highResolution?: ?boolean,
   inverted?: ?boolean,
   maximumTrackImage?: ?ImageSource,
   maximumTrackTintColor ?: ? ColorValue,
@@ -38,17 +48,26 @@ type NativeProps = $ReadOnly<{|
   minimumTrackTintColor ?: ? ColorValue,
   minimumTrackViewTag ?: ? number,
   minimumValue?: ?number,
-  onChange?: ?(event: Event) => void,
+  mostRecentEventCount?: ?number,
   onRNCSliderSlidingStart?: ?(event: Event) => void,
   onRNCSliderSlidingComplete?: ?(event: Event) => void,
   onRNCSliderValueChange?: ?(event: Event) => void,
+  scale?: ?('linear' | 'logarithmic' | 'power'),
+  scaleExponent?: ?number,
   step?: ?number,
   testID?: ?string,
   thumbImage?: ?ImageSource,
   thumbTintColor?: ?ColorValue,
+  thumbValues?: ?$ReadOnlyArray<number>,
   thumbViewTag ?: ? number,
+  tickMarks?: ?boolean,
+  tickMarkTintColor?: ?ColorValue,
+  touchPrediction?: ?boolean,
+  touchSamples?: ?boolean,
   trackImage?: ?ImageSource,
   value?: ?number,
+  values?: ?$ReadOnlyArray<number>,
+  viewRenderMode?: ?('displayList' | 'bitmap' | 'tree'),
 |}>;
 
 type RNCSliderType = Class<NativeComponent<NativeProps>>;
@@ -11,11 +11,12 @@
 'use strict';
 
 import React from 'react';
-import {Image, Platform, StyleSheet} from 'react-native';
+import {Animated, Image, Platform, StyleSheet} from 'react-native';
 import RCTSliderNativeComponent from './RNCSliderNativeComponent';
 import { useViewProp } from './hooks';
 
 import type {Ref} from 'react';
+import type AnimatedValue from 'react-native/Libraries/Animated/src/nodes/AnimatedValue';
 import type {NativeComponent} from 'react-native/Libraries/Renderer/shims/ReactNative';
 import type {ImageSource} from 'react-native/Libraries/Image/ImageSource';
 import type {ViewStyleProp} from 'react-native/Libraries/StyleSheet/StyleSheet';
@@ -30,6 +31,23 @@ type Event = SyntheticEvent<
      * Android Only.
      */
     fromUser?: boolean,
+    /**
+     * Android Only, range mode.
+     */
+    values?: $ReadOnlyArray<number>,
+    activeThumb?: number,
+    /**
+     * Android Only, (time, value) pairs, see `onTouchSamples`.
+     */
+    samples?: $ReadOnlyArray<number>,
+    /**
+     * Android Only, uptime in milliseconds of the touch causing the change.
+     */
+    touchTimestamp?: number,
+    /**
+     * Android Only, number of changes made by the user so far.
+     */
+    eventCount?: number,
   |}>,
 >;
 
@@ -69,7 +87,9 @@ type Props = $ReadOnly<{|
    * Default value is 0.
    *
    * *This is not a controlled component*, you don't need to update the
-   * value during dragging.
+   * value during dragging. On Android it may be used as one: values
+   * rendered in response to `onValueChange` that are already outdated by
+   * further dragging are ignored natively.
    */
   value?: ?number,
 
@@ -121,17 +141,25 @@ type Props = $ReadOnly<{|
   /**
    * Callback that is called when the user touches the slider,
    * regardless if the value has changed. The current value is passed
-   * as an argument to the callback handler.
+   * as an argument to the callback handler, followed by the values of all
+   * thumbs in range mode (Android only).
    */
 
-  onSlidingStart?: ?(value: number) => void,
+  onSlidingStart?: ?(
+    value: number,
+    thumbValues?: $ReadOnlyArray<number>,
+  ) => void,
 
   /**
    * Callback that is called when the user releases the slider,
    * regardless if the value has changed. The current value is passed
-   * as an argument to the callback handler.
+   * as an argument to the callback handler, followed by the values of all
+   * thumbs in range mode (Android only).
    */
-  onSlidingComplete?: ?(value: number) => void,
+  onSlidingComplete?: ?(
+    value: number,
+    thumbValues?: $ReadOnlyArray<number>,
+  ) => void,
 
   /**
    * Used to locate this view in UI automation tests.
@@ -148,6 +176,124 @@ type Props = $ReadOnly<{|
    * Default value is false.
    */
   inverted?: ?boolean,
+
+  /**
+   * Android only. If true the thumb keeps moving after a fast drag is released and
+   * decelerates natively. `onSlidingComplete` is called once it comes to rest.
+   * Default value is false.
+   */
+  fling?: ?boolean,
+
+  /**
+   * Android only. If true the thumb is drawn where the finger is expected to be on the
+   * next frame so that it doesn't trail behind while dragging.
+   * `onValueChange` still receives the value actually touched.
+   * Not applied with `thumbValues`. Default value is false.
+   */
+  touchPrediction?: ?boolean,
+
+  /**
+   * Android only. How `thumb`, `minimumTrack`, `maximumTrack` and `backgroundTrack`
+   * views are rendered. `displayList` records their drawing commands, which
+   * stays sharp at any scale and holds no pixel memory. It requires
+   * Android 6.0+ and falls back to `bitmap` on older versions. `tree` draws
+   * every sub-view on its own so a change to one of them, such as an animated
+   * `opacity` or `transform`, doesn't render the whole view again.
+   * Default value is `displayList`.
+   */
+  viewRenderMode?: ?('displayList' | 'bitmap' | 'tree'),
+
+  /**
+   * Android only. If true and `step` is 0, the slider uses about 16 million
+   * positions instead of 128, e.g. for long media timelines.
+   * Default value is false.
+   */
+  highResolution?: ?boolean,
+
+  /**
+   * Android only. If true a mark is drawn for each step beneath the track.
+   * Marks are skipped when steps are too dense to tell apart.
+   * Default value is false.
+   */
+  tickMarks?: ?boolean,
+
+  /**
+   * Android only. The color of the tick marks.
+   */
+  tickMarkTintColor?: ?ColorValue,
+
+  /**
+   * Android only. Enables range mode: the slider shows a thumb for each value
+   * and a touch drags the nearest thumb, which can't pass its neighbours.
+   * `value` is ignored in range mode.
+   */
+  thumbValues?: ?$ReadOnlyArray<number>,
+
+  /**
+   * Android only. Callback continuously called with the values of all thumbs
+   * while the user is dragging a thumb in range mode.
+   */
+  onThumbValuesChange?: ?(values: $ReadOnlyArray<number>) => void,
+
+  /**
+   * Android only. Callback called with every touch sample of a drag,
+   * including the samples a high rate touch screen or stylus reports
+   * in between frames. Samples are passed as a flat array of
+   * (time, value) pairs: `[time0, value0, time1, value1, ...]`,
+   * time being the uptime of the sample in milliseconds.
+   * Called at most once per frame.
+   */
+  onTouchSamples?: ?(samples: $ReadOnlyArray<number>) => void,
+
+  /**
+   * Android only. Sorted list of the values the slider can take. The thumb
+   * snaps to them natively and `value` is snapped to the closest one.
+   * Overrides `minimumValue`, `maximumValue`, `step` and `scale`.
+   */
+  values?: ?$ReadOnlyArray<number>,
+
+  /**
+   * Android only. Maps the position of the thumb to a value: 'linear',
+   * 'logarithmic' (`minimumValue` and `maximumValue` must have the same sign)
+   * or 'power' (see `scaleExponent`). `step` applies to the resulting value.
+   * Default value is 'linear'.
+   */
+  scale?: ?('linear' | 'logarithmic' | 'power'),
+
+  /**
+   * Android only. Exponent of the 'power' scale. Default value is 2.
+   */
+  scaleExponent?: ?number,
+
+  /**
+   * Android only. Minimum interval in milliseconds between two value change
+   * events while dragging. The last value is always delivered.
+   * Default value is 0 (no limit).
+   */
+  eventThrottleMs?: ?number,
+
+  /**
+   * Android only. Suppresses value change events while dragging:
+   * 'value' emits on every change, 'step' only when the step changes (one
+   * of 128 steps if `step` is 0, even with `highResolution` or `scale`),
+   * 'delta' only when the value moved by more than
+   * `eventGranularityThreshold` and 'pixel' only when the thumb travelled more
+   * than `eventGranularityThreshold` pixels.
+   * The final value is always delivered. Default value is 'value'.
+   */
+  eventGranularity?: ?('value' | 'step' | 'delta' | 'pixel'),
+
+  /**
+   * Android only. See `eventGranularity`.
+   */
+  eventGranularityThreshold?: ?number,
+
+  /**
+   * An `Animated.Value` that natively follows the slider value, e.g. to drive
+   * animations while dragging without a round trip through JS.
+   * Changing between set and unset remounts the native slider.
+   */
+  animatedValue?: ?AnimatedValue,
 |}>;
 
 /**
@@ -221,6 +367,8 @@ const SliderComponent = (
 
   const {
     onValueChange,
+    onThumbValuesChange,
+    onTouchSamples,
     onSlidingStart,
     onSlidingComplete,
     backgroundTrack,
@@ -228,31 +376,64 @@ const SliderComponent = (
     maximumTrack,
     thumb,
     debug,
+    animatedValue,
     ...localProps
   } = props;
 
-  const onValueChangeEvent = onValueChange
-    ? (event: Event) => {
-        let userEvent = true;
-        if (Platform.OS === 'android') {
-          // On Android there's a special flag telling us the user is
-          // dragging the slider.
-          userEvent =
-            event.nativeEvent.fromUser != null && event.nativeEvent.fromUser;
+  // Android only, the count of the most recent event seen by JS is rendered
+  // along with the value so that the slider can ignore stale values.
+  const mostRecentEventCount = React.useRef(0);
+  const onValueChangeEvent =
+    onValueChange || onThumbValuesChange || onTouchSamples
+      ? (event: Event) => {
+          let userEvent = true;
+          if (Platform.OS === 'android') {
+            const {eventCount} = event.nativeEvent;
+            if (eventCount != null) {
+              mostRecentEventCount.current = eventCount;
+            }
+            // On Android there's a special flag telling us the user is
+            // dragging the slider.
+            userEvent =
+              event.nativeEvent.fromUser != null && event.nativeEvent.fromUser;
+          }
+          if (userEvent) {
+            onValueChange && onValueChange(event.nativeEvent.value);
+            const {values} = event.nativeEvent;
+            onThumbValuesChange && values && onThumbValuesChange(values);
+            const {samples} = event.nativeEvent;
+            onTouchSamples && samples && onTouchSamples(samples);
+          }
         }
-        userEvent && onValueChange(event.nativeEvent.value);
-      }
-    : null;
+      : null;
+
+  const onValueChangeEventRef = React.useRef(onValueChangeEvent);
+  onValueChangeEventRef.current = onValueChangeEvent;
+  const onAnimatedValueChangeEvent = React.useMemo(
+    () =>
+      animatedValue
+        ? Animated.event([{nativeEvent: {value: animatedValue}}], {
+            useNativeDriver: true,
+            listener: (event: Event) => {
+              onValueChangeEventRef.current &&
+                onValueChangeEventRef.current(event);
+            },
+          })
+        : null,
+    [animatedValue],
+  );
+  const SliderNativeComponent = animatedValue
+    ? AnimatedSliderNativeComponent
+    : RCTSliderNativeComponent;
 
-  const onChangeEvent = onValueChangeEvent;
   const onSlidingStartEvent = onSlidingStart
     ? (event: Event) => {
-        onSlidingStart(event.nativeEvent.value);
+        onSlidingStart(event.nativeEvent.value, event.nativeEvent.values);
       }
     : null;
   const onSlidingCompleteEvent = onSlidingComplete
     ? (event: Event) => {
-        onSlidingComplete(event.nativeEvent.value);
+        onSlidingComplete(event.nativeEvent.value, event.nativeEvent.values);
       }
     : null;
 
@@ -269,15 +450,20 @@ const SliderComponent = (
       {minTrackView}
       {maxTrackView}
       {thumbView}
-      <RCTSliderNativeComponent
+      <SliderNativeComponent
         {...localProps}
         ref={ref}
         thumbImage={Image.resolveAssetSource(props.thumbImage)}
         style={style}
-        onChange={onChangeEvent}
         onRNCSliderSlidingStart={onSlidingStartEvent}
         onRNCSliderSlidingComplete={onSlidingCompleteEvent}
-        onRNCSliderValueChange={onValueChangeEvent}
+        onRNCSliderValueChange={onAnimatedValueChangeEvent || onValueChangeEvent}
+        mostRecentEventCount={
+          Platform.OS === 'android' && onValueChangeEvent
+            ? mostRecentEventCount.current
+            : undefined
+        }
+        touchSamples={onTouchSamples ? true : undefined}
         enabled={!props.disabled}
         onStartShouldSetResponder={() => true}
         onResponderTerminationRequest={() => false}
@@ -286,6 +472,10 @@ const SliderComponent = (
   );
 };
 
+const AnimatedSliderNativeComponent = Animated.createAnimatedComponent(
+  RCTSliderNativeComponent,
+);
+
 const SliderWithRef = React.forwardRef(SliderComponent);
 
 export const ANDROID_DEFAULT_COLOR = '#009688';
@@ -319,4 +509,5 @@ if (Platform.OS === 'ios') {
  * found when Flow v0.89 was deployed. To see the error, delete this comment
  * and run Flow. */
 const Slider = (SliderWithRef: Class<NativeComponent<Props>>);
-export default Slider;
\ No newline at end of file
+export default Slider;
+export {default as SliderLatency} from './SliderLatency';
\ No newline at end of file
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ *
+ * @format
+ * @flow
+ */
+
+'use strict';
+
+import {NativeModules} from 'react-native';
+
+type StagePercentiles = $ReadOnly<{|
+  count: number,
+  p50: ?number,
+  p90: ?number,
+  p99: ?number,
+|}>;
+
+/**
+ * Milliseconds elapsed since the touch when the slider received it, applied
+ * it and handed the value change event to JS.
+ */
+export type SliderLatencyPercentiles = $ReadOnly<{|
+  touchReceived: StagePercentiles,
+  progressApplied: StagePercentiles,
+  eventDispatched: StagePercentiles,
+|}>;
+
+const {RNCSliderLatency} = NativeModules;
+
+/**
+ * Android only. Records the latency of handling drags natively, shared by
+ * all sliders. Recording is disabled by default.
+ */
+const SliderLatency = {
+  setEnabled(enabled: boolean) {
+    RNCSliderLatency && RNCSliderLatency.setEnabled(enabled);
+  },
+
+  reset() {
+    RNCSliderLatency && RNCSliderLatency.reset();
+  },
+
+  /**
+   * Resolves to null on platforms not supporting it.
+   */
+  getPercentiles(): Promise<?SliderLatencyPercentiles> {
+    return RNCSliderLatency
+      ? RNCSliderLatency.getPercentiles()
+      : Promise.resolve(null);
+  },
+};
+
+export default SliderLatency;
@@ -1,10 +1,17 @@
 /* @flow */
 
 import * as React from 'react';
-import { View } from 'react-native';
+import { Animated, Platform, View } from 'react-native';
 import renderer from 'react-test-renderer';
 import Slider from '../Slider';
 
+// the native driver isn't available in tests, animated events are handled in JS
+jest.mock('react-native/Libraries/Animated/src/NativeAnimatedHelper');
+
+function renderNativeSlider(element) {
+  return renderer.create(element).root.findByType('RNCSlider');
+}
+
 describe('<Slider />', () => {
   it('renders enabled slider', () => {
     const tree = renderer.create(<Slider />).toJSON();
@@ -40,3 +47,114 @@ describe('<Slider />', () => {
     expect(tree).toMatchSnapshot();
   });
 });
+
+describe('<Slider /> on Android', () => {
+  const OS = Platform.OS;
+
+  beforeEach(() => {
+    // $FlowFixMe the slider reads the platform when rendering
+    Platform.OS = 'android';
+  });
+
+  afterEach(() => {
+    // $FlowFixMe
+    Platform.OS = OS;
+  });
+
+  it('forwards discrete values', () => {
+    const slider = renderNativeSlider(<Slider values={[1, 2, 5, 10]} />);
+
+    expect(slider.props.values).toEqual([1, 2, 5, 10]);
+  });
+
+  it('forwards thumb values and unpacks range events', () => {
+    const onThumbValuesChange = jest.fn();
+    const onSlidingStart = jest.fn();
+    const onSlidingComplete = jest.fn();
+    const slider = renderNativeSlider(
+      <Slider
+        thumbValues={[0.2, 0.8]}
+        onThumbValuesChange={onThumbValuesChange}
+        onSlidingStart={onSlidingStart}
+        onSlidingComplete={onSlidingComplete}
+      />,
+    );
+
+    expect(slider.props.thumbValues).toEqual([0.2, 0.8]);
+
+    slider.props.onRNCSliderSlidingStart({
+      nativeEvent: {value: 0.2, values: [0.2, 0.8]},
+    });
+    slider.props.onRNCSliderValueChange({
+      nativeEvent: {value: 0.3, fromUser: true, values: [0.3, 0.8]},
+    });
+    slider.props.onRNCSliderSlidingComplete({
+      nativeEvent: {value: 0.4, values: [0.4, 0.8]},
+    });
+
+    expect(onSlidingStart).toHaveBeenCalledWith(0.2, [0.2, 0.8]);
+    expect(onThumbValuesChange).toHaveBeenCalledWith([0.3, 0.8]);
+    expect(onSlidingComplete).toHaveBeenCalledWith(0.4, [0.4, 0.8]);
+  });
+
+  it('renders the count of the most recent event seen', () => {
+    const onValueChange = jest.fn();
+    const component = renderer.create(
+      <Slider value={0} onValueChange={onValueChange} />,
+    );
+    let slider = component.root.findByType('RNCSlider');
+
+    expect(slider.props.mostRecentEventCount).toBe(0);
+
+    slider.props.onRNCSliderValueChange({
+      nativeEvent: {value: 0.5, fromUser: true, eventCount: 3},
+    });
+    component.update(<Slider value={0.5} onValueChange={onValueChange} />);
+    slider = component.root.findByType('RNCSlider');
+
+    expect(onValueChange).toHaveBeenCalledWith(0.5);
+    expect(slider.props.mostRecentEventCount).toBe(3);
+  });
+
+  it('does not track events without a listener', () => {
+    const slider = renderNativeSlider(<Slider value={0.5} />);
+
+    expect(slider.props.mostRecentEventCount).toBeUndefined();
+  });
+
+  it('requests and unpacks touch samples', () => {
+    const onTouchSamples = jest.fn();
+    const slider = renderNativeSlider(
+      <Slider onTouchSamples={onTouchSamples} />,
+    );
+
+    expect(slider.props.touchSamples).toBe(true);
+
+    slider.props.onRNCSliderValueChange({
+      nativeEvent: {value: 0.5, fromUser: true, samples: [10, 0.4, 18, 0.5]},
+    });
+
+    expect(onTouchSamples).toHaveBeenCalledWith([10, 0.4, 18, 0.5]);
+  });
+
+  it('does not request touch samples without a listener', () => {
+    const slider = renderNativeSlider(<Slider onValueChange={() => {}} />);
+
+    expect(slider.props.touchSamples).toBeUndefined();
+  });
+
+  it('drives the animated value and still calls the listeners', () => {
+    const animatedValue = new Animated.Value(0);
+    const onValueChange = jest.fn();
+    const slider = renderNativeSlider(
+      <Slider animatedValue={animatedValue} onValueChange={onValueChange} />,
+    );
+
+    slider.props.onRNCSliderValueChange({
+      nativeEvent: {value: 0.7, fromUser: true, eventCount: 1},
+    });
+
+    expect(animatedValue.__getValue()).toBe(0.7);
+    expect(onValueChange).toHaveBeenCalledWith(0.7);
+  });
+});
@@ -0,0 +1,40 @@
+/* @flow */
+
+import SliderLatency from '../SliderLatency';
+
+describe('SliderLatency', () => {
+  it('resolves to null without the native module', () => {
+    SliderLatency.setEnabled(true);
+    SliderLatency.reset();
+
+    return expect(SliderLatency.getPercentiles()).resolves.toBeNull();
+  });
+
+  it('forwards to the native module', () => {
+    const percentiles = {
+      touchReceived: {count: 1, p50: 1, p90: 1, p99: 1},
+      progressApplied: {count: 1, p50: 2, p90: 2, p99: 2},
+      eventDispatched: {count: 1, p50: 3, p90: 3, p99: 3},
+    };
+    const RNCSliderLatency = {
+      setEnabled: jest.fn(),
+      reset: jest.fn(),
+      getPercentiles: jest.fn(() => Promise.resolve(percentiles)),
+    };
+    let NativeSliderLatency;
+    jest.isolateModules(() => {
+      // the native module is resolved when SliderLatency is loaded
+      require('react-native').NativeModules.RNCSliderLatency = RNCSliderLatency;
+      NativeSliderLatency = require('../SliderLatency').default;
+    });
+
+    NativeSliderLatency.setEnabled(true);
+    NativeSliderLatency.reset();
+
+    expect(RNCSliderLatency.setEnabled).toHaveBeenCalledWith(true);
+    expect(RNCSliderLatency.reset).toHaveBeenCalled();
+    return expect(NativeSliderLatency.getPercentiles()).resolves.toBe(
+      percentiles,
+    );
+  });
+});
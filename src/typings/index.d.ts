@@ -23,6 +23,105 @@ export interface SliderPropsAndroid extends ReactNative.ViewProps {
   * Sets a view for the track.
   */
   minimumtrack?: ViewHolderProp;
+
+  /**
+   * If true the thumb keeps moving after a fast drag is released and decelerates natively.
+   * `onSlidingComplete` is called once it comes to rest. Default value is false.
+   */
+  fling?: boolean;
+
+  /**
+   * If true the thumb is drawn where the finger is expected to be on the next frame so that it
+   * doesn't trail behind while dragging. `onValueChange` still receives the value actually touched.
+   * Not applied with `thumbValues`. Default value is false.
+   */
+  touchPrediction?: boolean;
+
+  /**
+   * How `thumb`, `minimumTrack`, `maximumTrack` and `backgroundTrack` views are rendered.
+   * `displayList` records their drawing commands, which stays sharp at any scale and holds no pixel memory.
+   * It requires Android 6.0+ and falls back to `bitmap` on older versions.
+   * `tree` draws every sub-view on its own so a change to one of them doesn't render the whole view again.
+   * Default value is `displayList`.
+   */
+  viewRenderMode?: 'displayList' | 'bitmap' | 'tree';
+
+  /**
+   * If true and `step` is 0, the slider uses about 16 million positions instead of 128,
+   * e.g. for long media timelines. Default value is false.
+   */
+  highResolution?: boolean;
+
+  /**
+   * If true a mark is drawn for each step beneath the track.
+   * Marks are skipped when steps are too dense to tell apart. Default value is false.
+   */
+  tickMarks?: boolean;
+
+  /**
+   * The color of the tick marks.
+   */
+  tickMarkTintColor?: string;
+
+  /**
+   * Enables range mode: the slider shows a thumb for each value and a touch drags the
+   * nearest thumb, which can't pass its neighbours. value is ignored in range mode.
+   */
+  thumbValues?: number[];
+
+  /**
+   * Callback continuously called with the values of all thumbs while the user
+   * is dragging a thumb in range mode.
+   */
+  onThumbValuesChange?: (values: number[]) => void;
+
+  /**
+   * Callback called with every touch sample of a drag, including the samples a high rate
+   * touch screen or stylus reports in between frames. Samples are passed as a flat array
+   * of (time, value) pairs, time being the uptime of the sample in milliseconds.
+   * Called at most once per frame.
+   */
+  onTouchSamples?: (samples: number[]) => void;
+
+  /**
+   * Sorted list of the values the slider can take. The thumb snaps to them natively
+   * and value is snapped to the closest one.
+   * Overrides minimumValue, maximumValue, step and scale.
+   */
+  values?: number[];
+
+  /**
+   * Maps the position of the thumb to a value: 'linear',
+   * 'logarithmic' (minimumValue and maximumValue must have the same sign)
+   * or 'power' (see scaleExponent). step applies to the resulting value.
+   * Default value is 'linear'.
+   */
+  scale?: 'linear' | 'logarithmic' | 'power';
+
+  /**
+   * Exponent of the 'power' scale. Default value is 2.
+   */
+  scaleExponent?: number;
+
+  /**
+   * Minimum interval in milliseconds between two value change events while dragging.
+   * The last value is always delivered. Default value is 0 (no limit).
+   */
+  eventThrottleMs?: number;
+
+  /**
+   * Suppresses value change events while dragging:
+   * 'value' emits on every change, 'step' only when the step changes (one of 128 steps if `step` is 0),
+   * 'delta' only when the value moved by more than `eventGranularityThreshold` and
+   * 'pixel' only when the thumb travelled more than `eventGranularityThreshold` pixels.
+   * The final value is always delivered. Default value is 'value'.
+   */
+  eventGranularity?: 'value' | 'step' | 'delta' | 'pixel';
+
+  /**
+   * See `eventGranularity`.
+   */
+  eventGranularityThreshold?: number;
 }
 
 export interface SliderPropsIOS extends ReactNative.ViewProps {
@@ -82,14 +181,16 @@ export interface SliderProps extends SliderPropsIOS, SliderPropsAndroid {
 
   /**
    * Callback that is called when the user picks up the slider.
-   * The initial value is passed as an argument to the callback handler.
+   * The initial value is passed as an argument to the callback handler,
+   * followed by the values of all thumbs in range mode (Android only).
    */
-  onSlidingStart?: (value: number) => void;
+  onSlidingStart?: (value: number, thumbValues?: number[]) => void;
 
   /**
    * Callback called when the user finishes changing the value (e.g. when the slider is released).
+   * The values of all thumbs are passed as the second argument in range mode (Android only).
    */
-  onSlidingComplete?: (value: number) => void;
+  onSlidingComplete?: (value: number, thumbValues?: number[]) => void;
 
   /**
    * Callback continuously called while the user is dragging the slider.
@@ -125,6 +226,12 @@ export interface SliderProps extends SliderPropsIOS, SliderPropsAndroid {
    */
   inverted?: boolean;
 
+  /**
+   * An Animated.Value that natively follows the slider value, e.g. to drive
+   * animations while dragging without a round trip through JS.
+   */
+  animatedValue?: ReactNative.Animated.Value;
+
 }
 
 /**
@@ -134,3 +241,33 @@ declare class SliderComponent extends React.Component<SliderProps> {}
 declare const SliderBase: ReactNative.Constructor<ReactNative.NativeMethodsMixin> & typeof SliderComponent;
 export default class Slider extends SliderBase {}
 export type SliderIOS = Slider;
+
+export interface SliderLatencyStagePercentiles {
+  count: number;
+  p50: number | null;
+  p90: number | null;
+  p99: number | null;
+}
+
+/**
+ * Milliseconds elapsed since the touch when the slider received it, applied it
+ * and handed the value change event to JS.
+ */
+export interface SliderLatencyPercentiles {
+  touchReceived: SliderLatencyStagePercentiles;
+  progressApplied: SliderLatencyStagePercentiles;
+  eventDispatched: SliderLatencyStagePercentiles;
+}
+
+/**
+ * Android only. Records the latency of handling drags natively, shared by all sliders.
+ * Recording is disabled by default.
+ */
+export const SliderLatency: {
+  setEnabled(enabled: boolean): void;
+  reset(): void;
+  /**
+   * Resolves to null on platforms not supporting it.
+   */
+  getPercentiles(): Promise<SliderLatencyPercentiles | null>;
+};